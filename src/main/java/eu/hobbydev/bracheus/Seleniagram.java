@@ -3,7 +3,8 @@ package eu.hobbydev.bracheus;
 
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import eu.hobbydev.bracheus.actions.LoginAction;
-import eu.hobbydev.bracheus.actions.StoppingSeleniagramAction;
+import eu.hobbydev.bracheus.actions.UpdateUserAction;
+import eu.hobbydev.bracheus.classes.ActionResult;
 import eu.hobbydev.bracheus.classes.LanguageHolder;
 import eu.hobbydev.bracheus.classes.SeleniagramUser;
 import eu.hobbydev.bracheus.interfaces.ConfigurationHolder;
@@ -15,11 +16,10 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
-import java.util.ArrayList;
-import java.util.List;
+import java.time.Duration;
+import java.util.Locale;
 import java.util.Scanner;
-
-import static java.lang.Thread.sleep;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Copyright (C) 2025 Bracheus
@@ -54,14 +54,19 @@ public class Seleniagram {
     public static LanguageHolder languageHolder;
     public static OpenAIManager openAIManager;
     public static UserManager userManager;
+    public static TimerWheelManager timerWheelManager;
+    public static ShutdownManager shutdownManager;
     private static String jarPath;
-    static boolean running = true;
+    private static final String SELF_REFRESH = "self-refresh";
 
     /**
      * The main method serves as the entry point to the application.
      * It sets up the necessary configuration, creates instances of required managers,
      * and initiates the main threads for action and listener management.
-     * It also handles user input for controlling the execution of the program.
+     * Chrome, the language file and the OpenAI client are prepared concurrently, and the first action is
+     * registered as soon as both threads report that they are ready.
+     * It also handles user input for controlling the execution of the program. Typing "stop", sending SIGTERM or
+     * pressing Ctrl+C runs the same bounded graceful shutdown of the {@link ShutdownManager}.
      *
      * @param args Command-line arguments (not used in this implementation).
      */
@@ -84,61 +89,224 @@ public class Seleniagram {
             logger.info("Config created. Shutdown!");
             return;
         }
-        XmlMapper xmlMapper = new XmlMapper();
-        configurationHolder = xmlMapper.readValue(new File(jarPath, "config.xml"), eu.hobbydev.bracheus.classes.ConfigurationHolder.class);
+        StartupManager startupManager = new StartupManager();
+        configurationHolder = startupManager.run("config", () -> new XmlMapper().readValue(
+                new File(jarPath, "config.xml"), eu.hobbydev.bracheus.classes.ConfigurationHolder.class));
         logger.info("Configuration loaded:");
         logger.info(configurationHolder.toString());
 
-        if (!checkLanguageHolder(configurationHolder.getLang())) {
-            languageHolder = new LanguageHolder();
-            languageHolder.setUsernameField("username");
-            languageHolder.setPasswordField("password");
-            languageHolder.setLoginField("Log in");
-            languageHolder.setAllowAllCookiesButton("Allow all cookies");
-            languageHolder.setSearchSpan("Search");
-            languageHolder.setProfileSpan("Profile");
-            languageHolder.setDirectMessagingAria("Direct messaging");
-            languageHolder.setWrongPassword("Sorry, your password was incorrect. Please double-check your password.");
-            languageHolder.setUnreadMessage("Unread");
-            languageHolder.setConversationWithAria("Conversation with");
-            languageHolder.setMessagePlaceholder("Message...");
-            languageHolder.setSendText("Send");
-            xmlMapper = new XmlMapper();
-            xmlMapper.writeValue(new File(jarPath, configurationHolder.getLang() + ".xml"), languageHolder);
-            logger.info("Language config created! This is used to store Instagram labels.");
-            return;
-        }
-        xmlMapper = new XmlMapper();
-        languageHolder = xmlMapper.readValue(new File(jarPath, configurationHolder.getLang() + ".xml"), LanguageHolder.class);
+        // Chrome, the language file and the OpenAI client do not depend on each other.
+        String apiKey = configurationHolder.getApiKey();
+        int openAIConcurrency = configurationHolder.getOpenAIConcurrency();
+        CompletableFuture<LanguageHolder> language = startupManager.stage("language", () -> loadLanguageHolder(configurationHolder.getLang()));
+        CompletableFuture<OpenAIManager> openAI = startupManager.stage("openai", () -> new OpenAIManager(apiKey, openAIConcurrency));
+        CompletableFuture<SeleniumManager> selenium = startupManager.stage("chrome", () -> {
+            SeleniumManager manager = new SeleniumManager();
+            manager.start();
+            return manager;
+        });
 
-        openAIManager = new OpenAIManager(configurationHolder.getApiKey());
-        userManager = new UserManager();
+        userManager = new UserManager(configurationHolder.getStatsHistorySize(),
+                configurationHolder.isCompactUserStorage() ? new CompactUserStorage() : new ObjectUserStorage());
         userManager.setSeleniagramUser(new SeleniagramUser(configurationHolder.getUsername(), configurationHolder.getPassword()));
-        SeleniumManager seleniumManager = new SeleniumManager();
-        seleniumManager.start();
-        configurationHolder = new eu.hobbydev.bracheus.classes.ConfigurationHolder();
-        actionThreadManager = new ActionThreadManager(seleniumManager);
+        // Drop the secrets from the configuration, the remaining settings are read at runtime.
+        configurationHolder.setPassword(null);
+        configurationHolder.setApiKey(null);
+        CompletableFuture<UserStore> users = startupManager.stage("users", Seleniagram::loadUserStore);
+
+        SeleniumManager seleniumManager;
+        UserStore userStore;
+        try {
+            languageHolder = startupManager.await(language);
+            if (languageHolder == null) {
+                logger.info("Language config created! This is used to store Instagram labels.");
+                stopStages(selenium, openAI, users);
+                startupManager.close();
+                return;
+            }
+            openAIManager = startupManager.await(openAI);
+            seleniumManager = startupManager.await(selenium);
+            userStore = startupManager.await(users);
+        } catch (IOException | RuntimeException e) {
+            // Chrome may already run, so everything the other stages started is stopped before giving up.
+            logger.error("Startup failed: {}", e.getMessage());
+            stopStages(selenium, openAI, users);
+            startupManager.close();
+            throw e;
+        }
+
+        ActionWatchdog actionWatchdog = new ActionWatchdog();
+        actionThreadManager = new ActionThreadManager(seleniumManager, configurationHolder.getActionQueueCapacity(),
+                getOverflowPolicy(configurationHolder.getActionQueueOverflow()), actionWatchdog,
+                new CircuitBreakerManager(configurationHolder.getCircuitFailureThreshold(), configurationHolder.getRetryBaseDelay(),
+                        configurationHolder.getCircuitOpenTime(), configurationHolder.getCircuitMaxOpenTime()));
         actionThreadManager.setName("ActionThreadManager");
-        actionThreadManager.start();
-        listenerThreadManager = new ListenerThreadManager(seleniumManager);
+        listenerThreadManager = new ListenerThreadManager(seleniumManager, actionWatchdog);
         listenerThreadManager.setName("ListenerThreadManager");
-        listenerThreadManager.start();
-        sleep(10000);
-        actionThreadManager.registerActions(new LoginAction());
+        startupManager.run("threads", () -> {
+            // Actions and listeners registered before the threads reach their loops wait in the queue.
+            actionThreadManager.start();
+            listenerThreadManager.start();
+            return null;
+        });
+        SessionWatchdog sessionWatchdog = new SessionWatchdog(seleniumManager, configurationHolder.getWatchdogInterval());
+        sessionWatchdog.start();
+        startupManager.run("schedule", () -> {
+            startTimerWheel();
+            return null;
+        });
+        shutdownManager = new ShutdownManager(actionThreadManager, listenerThreadManager, timerWheelManager, sessionWatchdog,
+                seleniumManager, openAIManager, userStore, Duration.ofMillis(configurationHolder.getShutdownDrainTimeout()));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdownManager.shutdown("JVM shutdown"), "ShutdownHook"));
+        // The data of the Seleniagram user is refreshed right after a successful login.
+        CompletableFuture<ActionResult> login = actionThreadManager.registerActions(new LoginAction());
+        actionThreadManager.registerActionAfter(login, new UpdateUserAction(userManager.getSeleniagramUser().getUsername(), true));
         listenerThreadManager.addListener(new DMListener());
+        startupManager.logTimings();
+        startupManager.close();
+
+        Thread console = new Thread(Seleniagram::readConsole, "Console");
+        console.setDaemon(true);
+        console.start();
+        shutdownManager.awaitTermination();
+        logger.info("Bye!");
+    }
+
+    /**
+     * Waits for the concurrent startup stages and stops what they started, after another stage failed or the
+     * startup ended early. Stages that failed have nothing to stop.
+     *
+     * @param selenium the stage starting Chrome.
+     * @param openAI   the stage creating the OpenAI client.
+     * @param users    the stage loading the stored users.
+     */
+    private static void stopStages(CompletableFuture<SeleniumManager> selenium, CompletableFuture<OpenAIManager> openAI,
+                                   CompletableFuture<UserStore> users) {
+        Logger logger = LoggerFactory.getLogger(Seleniagram.class);
+        try {
+            SeleniumManager seleniumManager = selenium.exceptionally(e -> null).join();
+            if (seleniumManager != null) {
+                seleniumManager.stop();
+            }
+        } catch (RuntimeException e) {
+            logger.error("Can't stop Chrome: {}", e.getMessage());
+        }
+        try {
+            OpenAIManager openAIClient = openAI.exceptionally(e -> null).join();
+            if (openAIClient != null) {
+                openAIClient.shutdown();
+            }
+        } catch (RuntimeException e) {
+            logger.error("Can't stop the OpenAI client: {}", e.getMessage());
+        }
+        UserStore userStore = users.exceptionally(e -> null).join();
+        if (userStore != null) {
+            userStore.close();
+        }
+    }
+
+    /**
+     * Reads the console until "stop" is typed, then requests a graceful shutdown.
+     */
+    private static void readConsole() {
         Scanner scanner = new Scanner(System.in);
-        while (running) {
-            String input = scanner.next();
-            if (input.equals("stop")) {
-                running = false;
+        while (scanner.hasNext()) {
+            if (scanner.next().equals("stop")) {
+                shutdownManager.requestShutdown("console");
+                return;
             }
         }
-        actionThreadManager.registerActions(new StoppingSeleniagramAction());
-        while (actionThreadManager.isAlive()) {
-            sleep(1000);
+    }
+
+    /**
+     * Starts the {@link TimerWheelManager} with the timers stored in the schedule file and schedules the recurring
+     * refresh of the Seleniagram user, unless it is already scheduled or disabled in the configuration.
+     *
+     * @throws IOException if the schedule file cannot be read.
+     */
+    private static void startTimerWheel() throws IOException {
+        timerWheelManager = new TimerWheelManager(actionThreadManager, new File(jarPath, "schedule.xml"));
+        timerWheelManager.registerFactory(UpdateUserAction.TYPE, UpdateUserAction::new);
+        timerWheelManager.registerFactory(UpdateUserAction.SELF_TYPE, user -> new UpdateUserAction(user, true));
+        timerWheelManager.load();
+        long interval = configurationHolder.getSelfRefreshInterval();
+        if (interval <= 0) {
+            timerWheelManager.cancel(SELF_REFRESH);
+        } else if (!timerWheelManager.isScheduled(SELF_REFRESH)) {
+            timerWheelManager.schedule(SELF_REFRESH, UpdateUserAction.SELF_TYPE, userManager.getSeleniagramUser().getUsername(),
+                    Duration.ofMillis(interval), Duration.ofMillis(interval));
         }
-        seleniumManager.stop();
-        logger.info("Bye!");
+        timerWheelManager.start();
+    }
+
+    /**
+     * Loads the known and followed users from the {@link UserStore} next to the jar, unless storing users is disabled
+     * in the configuration.
+     *
+     * @return the loaded store, or {@code null} if users are not stored.
+     * @throws IOException if the user files cannot be read.
+     */
+    private static UserStore loadUserStore() throws IOException {
+        if (!configurationHolder.isUserStore()) {
+            return null;
+        }
+        UserStore userStore = new UserStore(new File(jarPath), configurationHolder.getUserStoreCompactionSize());
+        userStore.load(userManager);
+        return userStore;
+    }
+
+    /**
+     * Parses the overflow policy of the action queue from the configuration.
+     *
+     * @param policy the name of the policy, e.g. "DROP_OLDEST".
+     * @return the policy, or {@link ActionQueue.OverflowPolicy#DROP_OLDEST} if the name is unknown.
+     */
+    private static ActionQueue.OverflowPolicy getOverflowPolicy(String policy) {
+        try {
+            return ActionQueue.OverflowPolicy.valueOf(policy.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            LoggerFactory.getLogger(Seleniagram.class).warn("Unknown action queue overflow policy {}. Using DROP_OLDEST.", policy);
+            return ActionQueue.OverflowPolicy.DROP_OLDEST;
+        }
+    }
+
+    /**
+     * Loads the language file for the given language.
+     * If the file does not exist yet, a file with the English labels is created.
+     *
+     * @param lang The language code (e.g., "EN", "DE") of the language file.
+     * @return The loaded {@link LanguageHolder}, or {@code null} if the language file had to be created first.
+     * @throws IOException if the language file cannot be read or written.
+     */
+    private static LanguageHolder loadLanguageHolder(String lang) throws IOException {
+        XmlMapper xmlMapper = new XmlMapper();
+        if (!checkLanguageHolder(lang)) {
+            LanguageHolder newLanguageHolder = new LanguageHolder();
+            newLanguageHolder.setUsernameField("username");
+            newLanguageHolder.setPasswordField("password");
+            newLanguageHolder.setLoginField("Log in");
+            newLanguageHolder.setAllowAllCookiesButton("Allow all cookies");
+            newLanguageHolder.setSearchSpan("Search");
+            newLanguageHolder.setProfileSpan("Profile");
+            newLanguageHolder.setDirectMessagingAria("Direct messaging");
+            newLanguageHolder.setWrongPassword("Sorry, your password was incorrect. Please double-check your password.");
+            newLanguageHolder.setUnreadMessage("Unread");
+            newLanguageHolder.setConversationWithAria("Conversation with");
+            newLanguageHolder.setMessagePlaceholder("Message...");
+            newLanguageHolder.setSendText("Send");
+            xmlMapper.writeValue(new File(jarPath, lang + ".xml"), newLanguageHolder);
+            return null;
+        }
+        return xmlMapper.readValue(new File(jarPath, lang + ".xml"), LanguageHolder.class);
+    }
+
+    /**
+     * Returns the directory of the Seleniagram jar, where the configuration and data files are stored.
+     *
+     * @return the directory of the jar.
+     */
+    public static String getJarPath() {
+        return jarPath;
     }
 
     /**
@@ -3,7 +3,7 @@ package eu.hobbydev.bracheus.actions;
 
 import eu.hobbydev.bracheus.Seleniagram;
 import eu.hobbydev.bracheus.classes.LanguageHolder;
-import eu.hobbydev.bracheus.exceptions.SeleniagramNoSuchElementException;
+import eu.hobbydev.bracheus.exceptions.SeleniagramActionException;
 import eu.hobbydev.bracheus.interfaces.Actions;
 import eu.hobbydev.bracheus.interfaces.ConfigurationHolder;
 import eu.hobbydev.bracheus.manager.SeleniumManager;
@@ -12,6 +12,10 @@ import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Copyright (C) 2025 Bracheus
  * <p>
@@ -34,7 +38,8 @@ import org.slf4j.LoggerFactory;
  * The {@code LoginAction} class implements the {@link Actions} and {@link HumanizerTools} interfaces
  * to automate the login process on Instagram using Selenium.
  * <p>
- * This action attempts to log in with the provided credentials, handling cookie pop-ups
+ * This action first checks whether the browser session restored from the Chrome profile is still valid.
+ * Otherwise it attempts to log in with the provided credentials, handling cookie pop-ups
  * and checking for login errors. If the login fails, it stops further actions.
  * </p>
  */
@@ -44,35 +49,82 @@ public class LoginAction implements Actions, HumanizerTools {
 
     private static final String name = "LoginAction";
 
+    // The login types the credentials at a human pace, so it gets more time than other actions.
+    private static final Duration TIME_BUDGET = Duration.ofMinutes(3);
+
+    // Cookie Instagram sets for a logged in session.
+    private static final String SESSION_COOKIE = "sessionid";
+
+    // Names of the locators resolved in one batch.
+    private static final String PROFILE = "profile";
+    private static final String COOKIES = "cookies";
+    private static final String USERNAME = "username";
+    private static final String PASSWORD = "password";
+    private static final String LOGIN = "login";
+
     /**
      * Executes the login action by navigating to Instagram, handling cookies,
      * filling out the login form, and verifying if the login was successful.
      * <p>
-     * If the login fails due to incorrect credentials, the bot is stopped.
+     * If the login fails due to incorrect credentials, the bot is stopped and the action fails,
+     * so actions registered to run after the login are cancelled.
      * </p>
+     *
+     * @throws SeleniagramActionException if the login fails.
      */
     @Override
     public void handleAction() {
         openingLogin();
 
+        // A session restored from the Chrome profile is validated before the login form is used.
+        if (checkForSession()) {
+            return;
+        }
+
+        // Look up the profile span and the cookie consent button with one round trip.
+        Map<String, String> locators = new LinkedHashMap<>();
+        locators.put(PROFILE, "//span[text()='" + getLanguageHolder().getProfileSpan() + "']");
+        locators.put(COOKIES, "//button[text()='" + getLanguageHolder().getAllowAllCookiesButton() + "']");
+        Map<String, WebElement> page = getSeleniumManager().findElementsByXpaths(locators);
+
         // Check if login has already occurred (e.g., profile span found).
-        if (!checkForLogin()) {
-            Seleniagram.actionThreadManager.registerActions(new UpdateUserAction(Seleniagram.userManager.getSeleniagramUser().getUsername(), true));
+        if (!checkForLogin(page)) {
             return;
         }
 
         // Check for cookie consent and handle if needed.
-        checkForCookies();
+        checkForCookies(page);
 
         // Attempt to fill the login form and check for successful login.
         if (!fillingInputForm()) {
             logger.error("Can't login with given information!");
             // If login fails, register a stopping action.
             Seleniagram.actionThreadManager.registerActions(new StoppingSeleniagramAction());
-        } else {
-            Seleniagram.actionThreadManager.registerActions(new UpdateUserAction(Seleniagram.userManager.getSeleniagramUser().getUsername(), true));
-            logger.info("Logged in successfully!");
+            throw new SeleniagramActionException("Can't login with given information!");
+        }
+        logger.info("Logged in successfully!");
+    }
+
+    /**
+     * Checks if a session restored from the Chrome profile is still valid.
+     * <p>
+     * Without a session cookie the user cannot be logged in, so the page is not checked at all.
+     * With a session cookie, the session is valid once the profile span shows up.
+     * </p>
+     *
+     * @return {@code true} if the restored session is valid, {@code false} if the login form is needed.
+     */
+    private boolean checkForSession() {
+        if (!getSeleniumManager().hasCookie(SESSION_COOKIE)) {
+            logger.info("No session found. Login is needed!");
+            return false;
         }
+        if (waitForElement("//span[text()='" + getLanguageHolder().getProfileSpan() + "']")) {
+            logger.info("Restored session is still valid!");
+            return true;
+        }
+        logger.info("Restored session has expired!");
+        return false;
     }
 
     /**
@@ -81,16 +133,11 @@ public class LoginAction implements Actions, HumanizerTools {
      * If the profile span is present, it indicates that the user is already logged in.
      * </p>
      *
+     * @param page The elements found on the start page, keyed by their locator name.
      * @return {@code true} if the user is not logged in (profile span not found), {@code false} otherwise.
      */
-    private boolean checkForLogin() {
-        WebElement profile;
-        try {
-            profile = getSeleniumManager().findSpanByText(getLanguageHolder().getProfileSpan());
-        } catch (SeleniagramNoSuchElementException e) {
-            return true;
-        }
-        return profile == null;
+    private boolean checkForLogin(Map<String, WebElement> page) {
+        return page.get(PROFILE) == null;
     }
 
     /**
@@ -103,64 +150,49 @@ public class LoginAction implements Actions, HumanizerTools {
      * @return {@code true} if the login was successful, {@code false} otherwise.
      */
     private boolean fillingInputForm() {
-        WebElement username = null;
-        WebElement password = null;
-        WebElement login = null;
+        // Resolve all form elements with a single round trip.
+        Map<String, String> locators = new LinkedHashMap<>();
+        locators.put(USERNAME, "//input[@name='" + getLanguageHolder().getUsernameField() + "']");
+        locators.put(PASSWORD, "//input[@name='" + getLanguageHolder().getPasswordField() + "']");
+        locators.put(LOGIN, "//div[text()='" + getLanguageHolder().getLoginField() + "']/..");
+        Map<String, WebElement> form = getSeleniumManager().findElementsByXpaths(locators);
 
-        try {
-            username = getSeleniumManager().findInputByName(getLanguageHolder().getUsernameField());
-        } catch (SeleniagramNoSuchElementException e) {
+        WebElement username = form.get(USERNAME);
+        if (username == null) {
             logger.info("Can't find username input field!");
             return false;
         }
 
-        try {
-            password = getSeleniumManager().findInputByName(getLanguageHolder().getPasswordField());
-        } catch (SeleniagramNoSuchElementException e) {
+        WebElement password = form.get(PASSWORD);
+        if (password == null) {
             logger.info("Can't find password input field!");
             return false;
         }
 
-        try {
-            login = getSeleniumManager().findDivByText(getLanguageHolder().getLoginField());
-            login = (WebElement) getSeleniumManager().getJavaScJavascriptExecutor().executeScript(
-                    "return arguments[0].parentNode;", login);
-        } catch (SeleniagramNoSuchElementException e) {
+        WebElement login = form.get(LOGIN);
+        if (login == null) {
             logger.info("Can't find login button!");
             return false;
         }
 
         // Type username and password into the respective fields.
         username.click();
-        for (char c : Seleniagram.userManager.getSeleniagramUser().getUsername().toCharArray()) {
-            username.sendKeys(String.valueOf(c));
-            inputDelay();
-        }
-        inputDelay();
+        typeTextPaced(username, Seleniagram.userManager.getSeleniagramUser().getUsername());
 
         password.click();
-        for (char c : Seleniagram.userManager.getSeleniagramUser().getPassword().toCharArray()) {
-            password.sendKeys(String.valueOf(c));
-            inputDelay();
-        }
-        inputDelay();
+        typeTextPaced(password, Seleniagram.userManager.getSeleniagramUser().getPassword());
 
+        String loginUrl = getSeleniumManager().getUrl();
         login.click();
-        siteDelay();
+        waitForUrlChange(loginUrl);
 
         // Check for any login errors (e.g., incorrect password).
-        WebElement errorMessage = null;
-        try {
-            errorMessage = getSeleniumManager().findDivByText(getLanguageHolder().getWrongPassword());
-        } catch (SeleniagramNoSuchElementException e) {
-            logger.info("No login error found");
-        }
-
-        // If error message is found, login failed.
-        if (errorMessage != null) {
+        if (getSeleniumManager().probeDivByText(getLanguageHolder().getWrongPassword()).isPresent()) {
+            // If error message is found, login failed.
             logger.info("Login credentials are wrong!");
             return false;
         }
+        logger.info("No login error found");
 
         // If URL is still the Instagram homepage, something went wrong.
         if (getSeleniumManager().getUrl().equals("https://instagram.com/")) {
@@ -176,14 +208,11 @@ public class LoginAction implements Actions, HumanizerTools {
      * <p>
      * If the cookie consent button is not found, it is assumed that cookies have already been accepted.
      * </p>
+     *
+     * @param page The elements found on the start page, keyed by their locator name.
      */
-    private void checkForCookies() {
-        WebElement cookieButton = null;
-        try {
-            cookieButton = getSeleniumManager().findButtonByText(getLanguageHolder().getAllowAllCookiesButton());
-        } catch (SeleniagramNoSuchElementException e) {
-            logger.error(e.getMessage());
-        }
+    private void checkForCookies(Map<String, WebElement> page) {
+        WebElement cookieButton = page.get(COOKIES);
         if (cookieButton != null) {
             cookieButton.click();
             logger.info("Accepted cookies!");
@@ -212,6 +241,37 @@ public class LoginAction implements Actions, HumanizerTools {
         return name;
     }
 
+    /**
+     * Returns the priority of this action. Every other action needs a logged-in session,
+     * so the login runs before them.
+     *
+     * @return {@link Actions#HIGH_PRIORITY}.
+     */
+    @Override
+    public int getPriority() {
+        return HIGH_PRIORITY;
+    }
+
+    /**
+     * Returns the coalescing key of this action. A login that is already waiting makes any further one redundant.
+     *
+     * @return the name of the action.
+     */
+    @Override
+    public String getCoalescingKey() {
+        return name;
+    }
+
+    /**
+     * Returns how long the login may run. Typing the credentials at a human pace takes longer than other actions.
+     *
+     * @return 3 minutes.
+     */
+    @Override
+    public Duration getTimeBudget() {
+        return TIME_BUDGET;
+    }
+
     /**
      * Retrieves the {@link SeleniumManager} instance used for handling Selenium operations.
      *
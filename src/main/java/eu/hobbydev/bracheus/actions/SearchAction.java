@@ -2,16 +2,24 @@ package eu.hobbydev.bracheus.actions;
 
 
 import eu.hobbydev.bracheus.Seleniagram;
+import eu.hobbydev.bracheus.classes.ActionResult;
 import eu.hobbydev.bracheus.classes.InstaUser;
 import eu.hobbydev.bracheus.classes.LanguageHolder;
-import eu.hobbydev.bracheus.exceptions.SeleniagramNoSuchElementException;
 import eu.hobbydev.bracheus.interfaces.Actions;
+import eu.hobbydev.bracheus.manager.CircuitBreaker;
+import eu.hobbydev.bracheus.manager.CircuitBreakerManager;
 import eu.hobbydev.bracheus.manager.SeleniumManager;
 import eu.hobbydev.bracheus.utils.HumanizerTools;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Copyright (C) 2025 Bracheus
  * <p>
@@ -42,8 +50,21 @@ import org.slf4j.LoggerFactory;
  */
 public class SearchAction implements Actions, HumanizerTools {
 
+    // Names of the locators resolved in one batch.
+    private static final String PROFILE = "profile";
+    private static final String SEARCH = "search";
+
+    /**
+     * Circuit of the profile span. While it is open, searches are parked instead of triggering logins.
+     */
+    public static final String PROFILE_CIRCUIT = "locator:profile";
+
+    // Circuit of the search span, input and result. While it is open, the profile is opened directly.
+    private static final String SEARCH_CIRCUIT = "locator:search";
+
     Logger logger = LoggerFactory.getLogger(getName());
     private final String user;
+    private CompletableFuture<ActionResult> deferredResult;
 
     /**
      * Constructs a SearchAction with the specified username to search for.
@@ -57,77 +78,119 @@ public class SearchAction implements Actions, HumanizerTools {
     /**
      * Executes the search action by performing a sequence of steps:
      * - Checks if the profile span is present to ensure the user is logged in.
-     * - If not, attempts to log in by registering a LoginAction.
+     * - If not, attempts to log in by registering a LoginAction, followed by this search.
      * - Starts the search process either via the search span or by performing a direct search.
      * <p>
      * This method handles errors by retrying or invoking alternative methods if elements are not found.
+     * A missing profile span is counted by the circuit {@link #PROFILE_CIRCUIT}: the login is retried with an
+     * exponential backoff, and once the circuit is open, this search is parked until the circuit allows a probe.
+     * In both cases, the search is not done yet, so its result is the result of the search registered again.
      */
     @Override
     public void handleAction() {
+        deferredResult = null;
         siteDelay();
 
         // Check if profile span exists, indicating that the user is logged in.
-        if (!checkProfile()) {
+        Map<String, WebElement> page = lookupPage();
+        if (!checkProfile(page)) {
             logger.error("Profile span not found. Checking again after switching site.");
             getSeleniumManager().open("https://instagram.com/");
             siteDelay();
-            if (!checkProfile()) {
-                logger.error("Profile span not found. Trying to login.");
-                // Register the login action if the profile is still not found.
-                Seleniagram.actionThreadManager.registerActions(new LoginAction());
+            page = lookupPage();
+            if (!checkProfile(page)) {
+                retryAfterLogin();
                 return;
             }
         }
+        getCircuitBreakerManager().recordSuccess(PROFILE_CIRCUIT);
 
         // Proceed with the search if logged in.
-        startSearch();
+        startSearch(page);
+    }
+
+    /**
+     * Handles a missing profile span. The failure is recorded, and unless the circuit opened, a login is registered
+     * after the retry delay of the circuit, followed by a refresh of the Seleniagram user and this search.
+     * If the circuit is open, only this search is registered again, and it is parked until the circuit allows a probe.
+     */
+    private void retryAfterLogin() {
+        CircuitBreaker circuit = getCircuitBreakerManager().get(PROFILE_CIRCUIT);
+        circuit.recordFailure();
+        if (circuit.getState() == CircuitBreaker.State.OPEN) {
+            logger.error("Profile span not found. Circuit {} is open, not logging in again.", PROFILE_CIRCUIT);
+            deferredResult = Seleniagram.actionThreadManager.registerActions(this);
+            return;
+        }
+        Duration delay = circuit.getRetryDelay();
+        logger.error("Profile span not found. Trying to login in {} ms.", delay.toMillis());
+        // Register the login action if the profile is still not found and search again right after it.
+        CompletableFuture<ActionResult> login = Seleniagram.actionThreadManager.registerActionsLater(new LoginAction(), delay);
+        // A new login refreshes the Seleniagram user, like the first login at startup.
+        Seleniagram.actionThreadManager.registerActionAfter(login,
+                new UpdateUserAction(Seleniagram.userManager.getSeleniagramUser().getUsername(), true));
+        deferredResult = Seleniagram.actionThreadManager.registerActionAfter(login, this);
+    }
+
+    /**
+     * Looks up the profile span and the search span of the current page with a single round trip.
+     *
+     * @return the found elements keyed by their locator name
+     */
+    private Map<String, WebElement> lookupPage() {
+        Map<String, String> locators = new LinkedHashMap<>();
+        locators.put(PROFILE, "//span[text()='" + getLanguageHolder().getProfileSpan() + "']");
+        locators.put(SEARCH, "//span[text()='" + getLanguageHolder().getSearchSpan() + "']");
+        return getSeleniumManager().findElementsByXpaths(locators);
     }
 
     /**
      * Initiates the search by interacting with the search span and input fields.
-     * It enters the provided username character by character into the search input.
+     * It enters the provided username into the search input.
      * If elements are not found, it falls back to a direct search method.
+     *
+     * @param page the elements of the current page keyed by their locator name
      */
-    private void startSearch() {
-        WebElement searchSpan;
-        try {
-            // Try to find the search span and click it.
-            searchSpan = getSeleniumManager().findSpanByText(getLanguageHolder().getSearchSpan());
-        } catch (SeleniagramNoSuchElementException e) {
+    private void startSearch(Map<String, WebElement> page) {
+        if (!getCircuitBreakerManager().allowRequest(SEARCH_CIRCUIT)) {
+            logger.info("Circuit {} is open. Starting direct search", SEARCH_CIRCUIT);
+            directSearch();
+            return;
+        }
+        // Try to find the search span and click it.
+        WebElement searchSpan = page.get(SEARCH);
+        if (searchSpan == null) {
             logger.error("No span found. Starting direct search");
+            getCircuitBreakerManager().recordFailure(SEARCH_CIRCUIT);
             directSearch();
             return;
         }
         searchSpan.click();
         inputDelay();
 
-        WebElement searchInput;
-        try {
-            // Try to find the search input field and type the username.
-            searchInput = getSeleniumManager().findInputByPlaceholder(getLanguageHolder().getSearchSpan());
-        } catch (SeleniagramNoSuchElementException e) {
+        // Try to find the search input field and type the username.
+        Optional<WebElement> searchInput = getSeleniumManager().probeInputByPlaceholder(getLanguageHolder().getSearchSpan());
+        if (searchInput.isEmpty()) {
             logger.error("No input found. Starting direct search");
+            getCircuitBreakerManager().recordFailure(SEARCH_CIRCUIT);
             directSearch();
             return;
         }
 
-        for (char c : user.toCharArray()) {
-            searchInput.sendKeys(String.valueOf(c));
-            inputDelay();
-        }
+        typeText(searchInput.get(), user);
 
-        siteDelay();
+        waitForElement("//span[text()='" + user + "']");
 
-        WebElement userSpan;
-        try {
-            // Attempt to find and click on the user's profile span.
-            userSpan = getSeleniumManager().findSpanByText(user);
-        } catch (SeleniagramNoSuchElementException e) {
+        // Attempt to find and click on the user's profile span.
+        Optional<WebElement> userSpan = getSeleniumManager().probeSpanByText(user);
+        if (userSpan.isEmpty()) {
             logger.error("No user span found. Starting direct search");
+            getCircuitBreakerManager().recordFailure(SEARCH_CIRCUIT);
             directSearch();
             return;
         }
-        userSpan.click();
+        getCircuitBreakerManager().recordSuccess(SEARCH_CIRCUIT);
+        userSpan.get().click();
         inputDelay();
     }
 
@@ -144,16 +207,11 @@ public class SearchAction implements Actions, HumanizerTools {
     /**
      * Checks if the profile span is visible, indicating the user is logged in.
      *
+     * @param page the elements of the current page keyed by their locator name
      * @return true if the profile span is found, false otherwise
      */
-    private boolean checkProfile() {
-        WebElement profile;
-        try {
-            profile = getSeleniumManager().findSpanByText(getLanguageHolder().getProfileSpan());
-        } catch (SeleniagramNoSuchElementException e) {
-            return false;
-        }
-        return profile != null;
+    private boolean checkProfile(Map<String, WebElement> page) {
+        return page.get(PROFILE) != null;
     }
 
     /**
@@ -165,6 +223,15 @@ public class SearchAction implements Actions, HumanizerTools {
         return Seleniagram.actionThreadManager.getSeleniumManager();
     }
 
+    /**
+     * Gets the circuits of the steps of this action.
+     *
+     * @return the CircuitBreakerManager instance
+     */
+    private CircuitBreakerManager getCircuitBreakerManager() {
+        return Seleniagram.actionThreadManager.getCircuitBreakerManager();
+    }
+
     /**
      * Gets the LanguageHolder instance containing language-specific labels for UI elements.
      *
@@ -183,4 +250,34 @@ public class SearchAction implements Actions, HumanizerTools {
     public String getName() {
         return "SearchAction";
     }
+
+    /**
+     * Returns the result of the search registered again after a missing profile span.
+     *
+     * @return the future of the registered search, or {@code null} if the last run searched the user.
+     */
+    @Override
+    public CompletableFuture<ActionResult> getDeferredResult() {
+        return deferredResult;
+    }
+
+    /**
+     * Returns the coalescing key of this action. Searching the same user twice in a row opens the same profile.
+     *
+     * @return the name of the action combined with the searched user.
+     */
+    @Override
+    public String getCoalescingKey() {
+        return getName() + ":" + user;
+    }
+
+    /**
+     * Returns the circuit this action depends on. Without the profile span, no search can succeed.
+     *
+     * @return {@link #PROFILE_CIRCUIT}.
+     */
+    @Override
+    public String getCircuitKey() {
+        return PROFILE_CIRCUIT;
+    }
 }
\ No newline at end of file
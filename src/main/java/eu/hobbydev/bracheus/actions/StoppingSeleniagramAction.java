@@ -36,12 +36,16 @@ public class StoppingSeleniagramAction implements Actions {
     private static final String name = "Stoppingaction";
 
     /**
-     * Executes the stopping action by halting the listener thread and the action thread.
-     * This method will stop the threads by calling the stop methods of
-     * {@link Seleniagram#listenerThreadManager} and {@link Seleniagram#actionThreadManager}.
+     * Executes the stopping action by requesting a graceful shutdown from {@link Seleniagram#shutdownManager}.
+     * If no shutdown manager exists yet, the listener thread and the action thread are stopped directly by calling the
+     * stop methods of {@link Seleniagram#listenerThreadManager} and {@link Seleniagram#actionThreadManager}.
      */
     @Override
     public void handleAction() {
+        if (Seleniagram.shutdownManager != null) {
+            Seleniagram.shutdownManager.requestShutdown(name);
+            return;
+        }
         Seleniagram.listenerThreadManager.stopManager();
         Seleniagram.actionThreadManager.stopThread();
     }
@@ -55,4 +59,24 @@ public class StoppingSeleniagramAction implements Actions {
     public String getName() {
         return name;
     }
+
+    /**
+     * Returns the priority of this action. Stopping runs before every other waiting action.
+     *
+     * @return {@link Actions#CRITICAL_PRIORITY}.
+     */
+    @Override
+    public int getPriority() {
+        return CRITICAL_PRIORITY;
+    }
+
+    /**
+     * Returns the coalescing key of this action, so Seleniagram is only stopped once.
+     *
+     * @return the name of the action.
+     */
+    @Override
+    public String getCoalescingKey() {
+        return name;
+    }
 }
@@ -3,17 +3,17 @@ package eu.hobbydev.bracheus.actions;
 
 import eu.hobbydev.bracheus.Seleniagram;
 import eu.hobbydev.bracheus.classes.InstaUser;
+import eu.hobbydev.bracheus.classes.ProfileStats;
+import eu.hobbydev.bracheus.classes.StatsHistory;
 import eu.hobbydev.bracheus.interfaces.Actions;
 import eu.hobbydev.bracheus.manager.SeleniumManager;
 import eu.hobbydev.bracheus.manager.UserManager;
-import org.openqa.selenium.By;
-import org.openqa.selenium.NoSuchElementException;
-import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WebDriverException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.Duration;
+import java.util.Locale;
 
 /**
  * Copyright (C) 2025 Bracheus
@@ -47,9 +47,46 @@ import java.util.List;
  */
 public class UpdateUserAction extends SearchAction implements Actions {
 
+    /**
+     * Reads the posts, followers and following counters of the opened profile in one pass
+     * and returns them as a JSON string.
+     */
+    private static final String PROFILE_STATS_SCRIPT =
+            "function text(context, xpath) {" +
+            "  var node = document.evaluate(xpath, context, null," +
+            "      XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "  return node ? node.innerText : null;" +
+            "}" +
+            "var items = document.evaluate(\"//ul[contains(@class, 'x78zum5')]/li\", document, null," +
+            "    XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "var stats = {found: items.snapshotLength};" +
+            "if (items.snapshotLength === 3) {" +
+            "  stats.posts = text(items.snapshotItem(0), \".//div/span/span[contains(@class, 'x5n08af')]/span\");" +
+            "  stats.followers = text(items.snapshotItem(1), \".//div/a/span/span[contains(@class, 'x5n08af')]/span\");" +
+            "  stats.following = text(items.snapshotItem(2), \".//div/a/span/span[contains(@class, 'x5n08af')]/span\");" +
+            "}" +
+            "return JSON.stringify(stats);";
+
+    /**
+     * Type of the action in the schedule of the {@link eu.hobbydev.bracheus.manager.TimerWheelManager}.
+     */
+    public static final String TYPE = "UpdateUserAction";
+
+    /**
+     * Type of the refresh of the Seleniagram user in the schedule of the
+     * {@link eu.hobbydev.bracheus.manager.TimerWheelManager}.
+     */
+    public static final String SELF_TYPE = "UpdateSeleniagramUserAction";
+
+    /**
+     * How long a refresh of another user may wait in the queue before its result is no longer useful.
+     */
+    private static final Duration MAX_QUEUE_TIME = Duration.ofMinutes(30);
+
     private Logger logger = LoggerFactory.getLogger(UpdateUserAction.class);
     private final boolean seleniagramUser;
     private final String user;
+    private ProfileStats stats;
 
     /**
      * Constructs an {@code UpdateUserAction} for the specified user with the default flag for Seleniagram user as false.
@@ -87,7 +124,8 @@ public class UpdateUserAction extends SearchAction implements Actions {
     @Override
     public void handleAction() {
         directSearch();
-        List<String> data = getUserData();
+        ProfileStats data = getUserData();
+        stats = data;
 
         if (data == null) {
             logger.error("Data not found. Try again later!");
@@ -102,108 +140,88 @@ public class UpdateUserAction extends SearchAction implements Actions {
     }
 
     /**
-     * Retrieves the user data from the web page. It extracts the user's posts, followers, and following information.
-     * If the required data is not found or is incomplete, an error is logged.
+     * Retrieves the user data from the web page. It extracts the user's posts, followers, and following information
+     * with a single script executed in the page, which returns all counters as one JSON object.
+     * If the required data is not found or is incomplete, a warning is logged.
      *
-     * @return A list of strings containing the user's data (posts, followers, following), or {@code null} if
-     * an error occurs or the data is incomplete.
+     * @return The {@link ProfileStats} containing the user's posts, followers and following, or {@code null} if
+     * an error occurs.
      */
-    private List<String> getUserData() {
-        List<String> data = new ArrayList<>();
-
+    private ProfileStats getUserData() {
+        ProfileStats data;
         try {
-            List<WebElement> stats = getSeleniumManager().findElementsByXpath("//ul[contains(@class, 'x78zum5')]/li");
-
-            if (stats.size() == 3) {
-                for (int i = 0; i < 3; i++) {
-                    String xpath = ".//div/a/span/span[contains(@class, 'x5n08af')]/span";
-                    if (i == 0) {
-                        xpath = ".//div/span/span[contains(@class, 'x5n08af')]/span";
-                    }
-                    WebElement span = stats.get(i).findElement(By.xpath(xpath));
-                    String text = span.getText();
-                    if (text != null && !text.isEmpty()) {
-                        data.add(text);
-                        System.out.println(text);
-                    } else {
-                        logger.warn("Empty text found for span element!");
-                    }
-                }
-            } else {
-                logger.warn("Can't find all infos! Expected: 3, Found: " + stats.size());
-            }
-        } catch (NoSuchElementException e) {
+            data = getSeleniumManager().executeJavascriptForJson(PROFILE_STATS_SCRIPT, ProfileStats.class);
+        } catch (WebDriverException | IllegalStateException e) {
             logger.error("Problem getting userinfo: " + e.getMessage(), e);
             return null;
         }
 
+        if (data != null && data.getFound() != 3) {
+            logger.warn("Can't find all infos! Expected: 3, Found: " + data.getFound());
+        }
         return data;
     }
 
     /**
-     * Updates the data for a regular Instagram user. The user's posts, subscribers, and subscriptions are updated.
-     * If the user is already known, their data is updated, and they are re-registered. If the user is not known, a new
-     * user is created and registered.
+     * Updates the data for a regular Instagram user. The user's posts, subscribers, and subscriptions are updated
+     * in one atomic step, so readers see either the old or the new counters. If the user is already known, a new
+     * version of the user replaces the old one and their follow status is kept. If the user is not known, a new
+     * user is registered.
      *
-     * @param data The list of data containing the user's posts, subscribers, and subscriptions.
+     * @param data The profile counters containing the user's posts, subscribers, and subscriptions.
      */
-    private void updateUser(List<String> data) {
-        if (data.size() != 3) {
+    private void updateUser(ProfileStats data) {
+        if (!data.isComplete()) {
             logger.error("Data is not complete. Try again later!");
             return;
         }
-        if (getUserManager().isKnownInstaUser(user)) {
-            InstaUser instaUser = getUserManager().getKnownInstaUser(user);
-            boolean followed = false;
-
-            if (getUserManager().isFollowedInstaUser(instaUser)) {
-                followed = true;
-                getUserManager().unregisterFollowedInstaUser(instaUser);
-            }
-            getUserManager().unregisterInstaUser(instaUser);
-            instaUser.setPosts(Integer.parseInt(data.getFirst()));
-            logger.info("Found {} posts!", data.getFirst());
-            instaUser.setSubs(Integer.parseInt(data.get(1)));
-            logger.info("Found {} subs!", data.get(1));
-            instaUser.setSubbed(Integer.parseInt(data.get(2)));
-            logger.info("Found {} subbed accounts!", data.get(2));
-            logger.info("Updated InstaUser {}!", instaUser.getUsername());
-            getUserManager().registerInstaUser(instaUser);
-            logger.info("Registered InstaUser {}!", instaUser.getUsername());
-            if (followed) {
-                logger.info("Registered followed InstaUser {}!", instaUser.getUsername());
-            }
-            return;
-        }
-        InstaUser instaUser = new InstaUser(user);
-        instaUser.setPosts(Integer.parseInt(data.getFirst()));
-        logger.info("Found {} posts!", data.getFirst());
-        instaUser.setSubs(Integer.parseInt(data.get(1)));
-        logger.info("Found {} subs!", data.get(1));
-        instaUser.setSubbed(Integer.parseInt(data.getLast()));
-        logger.info("Found {} subbed accounts!", data.getLast());
-        logger.info("Updated InstaUser {}!", instaUser.getUsername());
-        getUserManager().registerInstaUser(instaUser);
-        logger.info("Registered InstaUser {}!", instaUser.getUsername());
+        int posts = Integer.parseInt(data.getPosts());
+        int subs = Integer.parseInt(data.getFollowers());
+        int subbed = Integer.parseInt(data.getFollowing());
+        InstaUser instaUser = getUserManager().updateInstaUser(user, updated -> {
+            updated.setPosts(posts);
+            updated.setSubs(subs);
+            updated.setSubbed(subbed);
+        });
+        logger.info("Found {} posts!", data.getPosts());
+        logger.info("Found {} subs!", data.getFollowers());
+        logger.info("Found {} subbed accounts!", data.getFollowing());
+        logger.info("Updated InstaUser {} to version {}!", instaUser.getUsername(), instaUser.getVersion());
+        recordStats(posts, subs, subbed);
+    }
+
+    /**
+     * Adds the read counters to the stats history of the user, so their growth can be analysed.
+     *
+     * @param posts  the number of posts.
+     * @param subs   the number of subscribers.
+     * @param subbed the number of subscriptions.
+     */
+    private void recordStats(int posts, int subs, int subbed) {
+        StatsHistory history = getUserManager().recordStats(user, System.currentTimeMillis() / 1000, posts, subs, subbed);
+        logger.info("Stats history of {}: {} samples, {} subs per day.", user, history.getCount(),
+                String.format(Locale.ROOT, "%.1f", history.getSubsGrowthPerDay()));
     }
 
     /**
      * Updates the data for the Seleniagram user. The user's posts, subscribers, and subscriptions are updated.
      *
-     * @param data The list of data containing the Seleniagram user's posts, subscribers, and subscriptions.
-     */
-    private void updateSeleniagramUser(List<String> data) {
-        if (data.size() == 3) {
-            getUserManager().getSeleniagramUser().setPosts(Integer.parseInt(data.getFirst()));
-            logger.info("Found {} posts!", data.getFirst());
-            getUserManager().getSeleniagramUser().setSubs(Integer.parseInt(data.get(1)));
-            logger.info("Found {} subs!", data.get(1));
-            getUserManager().getSeleniagramUser().setSubbed(Integer.parseInt(data.getLast()));
-            logger.info("Found {} subbed accounts!", data.getLast());
+     * @param data The profile counters containing the Seleniagram user's posts, subscribers, and subscriptions.
+     */
+    private void updateSeleniagramUser(ProfileStats data) {
+        if (data.isComplete()) {
+            recordStats(Integer.parseInt(data.getPosts()), Integer.parseInt(data.getFollowers()),
+                    Integer.parseInt(data.getFollowing()));
+            getUserManager().getSeleniagramUser().setPosts(Integer.parseInt(data.getPosts()));
+            logger.info("Found {} posts!", data.getPosts());
+            getUserManager().getSeleniagramUser().setSubs(Integer.parseInt(data.getFollowers()));
+            logger.info("Found {} subs!", data.getFollowers());
+            getUserManager().getSeleniagramUser().setSubbed(Integer.parseInt(data.getFollowing()));
+            logger.info("Found {} subbed accounts!", data.getFollowing());
             logger.info("Updated SeleniagramUser {}!", getUserManager().getSeleniagramUser().getUsername());
             return;
         }
-        logger.error("Data is not complete. Try again later! Data size: {}", data.size());
+        logger.error("Data is not complete. Try again later! Data: {}", data);
     }
 
     /**
@@ -216,6 +234,58 @@ public class UpdateUserAction extends SearchAction implements Actions {
         return "UpdateUserAction";
     }
 
+    /**
+     * Returns the profile counters read by the last run of this action.
+     *
+     * @return the {@link ProfileStats} of the user, or {@code null} if they could not be read.
+     */
+    @Override
+    public ProfileStats getResult() {
+        return stats;
+    }
+
+    /**
+     * Returns the priority of this action. The Seleniagram user is refreshed with normal priority,
+     * other users are refreshed when nothing more urgent is waiting.
+     *
+     * @return {@link Actions#NORMAL_PRIORITY} for the Seleniagram user, otherwise {@link Actions#LOW_PRIORITY}.
+     */
+    @Override
+    public int getPriority() {
+        return seleniagramUser ? NORMAL_PRIORITY : LOW_PRIORITY;
+    }
+
+    /**
+     * Returns how long this action may wait in the queue. The refresh of the Seleniagram user never expires.
+     *
+     * @return {@code null} for the Seleniagram user, otherwise 30 minutes.
+     */
+    @Override
+    public Duration getMaxQueueTime() {
+        return seleniagramUser ? null : MAX_QUEUE_TIME;
+    }
+
+    /**
+     * Returns the coalescing key of this action. A waiting refresh of the same user already fetches the latest data.
+     *
+     * @return the name of the action combined with the user.
+     */
+    @Override
+    public String getCoalescingKey() {
+        return getName() + ":" + user + (seleniagramUser ? ":self" : "");
+    }
+
+    /**
+     * Returns the circuit this action depends on. The profile is opened directly and the profile span is not checked,
+     * so the action is never parked.
+     *
+     * @return {@code null}.
+     */
+    @Override
+    public String getCircuitKey() {
+        return null;
+    }
+
     /**
      * Retrieves the {@link SeleniumManager} instance associated with this action.
      *
@@ -0,0 +1,215 @@
+package eu.hobbydev.bracheus.classes;
+
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The ActionResult class describes how a registered action ended.
+ * <p>
+ * Every call of {@link eu.hobbydev.bracheus.manager.ActionThreadManager#registerActions(eu.hobbydev.bracheus.interfaces.Actions)}
+ * returns a future that is completed with an ActionResult once the action was handled, dropped or cancelled.
+ * A successful result carries the value returned by {@link eu.hobbydev.bracheus.interfaces.Actions#getResult()},
+ * a failed result the exception that ended the action.
+ * </p>
+ */
+public class ActionResult {
+
+    /**
+     * The ways an action can end.
+     */
+    public enum Status {
+        /**
+         * The action was handled without an error.
+         */
+        SUCCEEDED,
+        /**
+         * The action was handled and failed.
+         */
+        FAILED,
+        /**
+         * The action waited longer than its maximum queue time and was dropped.
+         */
+        EXPIRED,
+        /**
+         * The action was not handled, because its prerequisite did not succeed or Seleniagram was stopped.
+         */
+        CANCELLED,
+        /**
+         * The action was not handled, because the queue was full.
+         */
+        REJECTED,
+        /**
+         * The action took longer than its time budget and was cancelled.
+         */
+        TIMED_OUT
+    }
+
+    private final String action;
+    private final Status status;
+    private final Object value;
+    private final Throwable failure;
+
+    /**
+     * Constructs a result.
+     *
+     * @param action  the name of the action.
+     * @param status  how the action ended.
+     * @param value   the value produced by the action, or {@code null}.
+     * @param failure the exception that ended the action, or {@code null}.
+     */
+    private ActionResult(String action, Status status, Object value, Throwable failure) {
+        this.action = action;
+        this.status = status;
+        this.value = value;
+        this.failure = failure;
+    }
+
+    /**
+     * Creates the result of a successfully handled action.
+     *
+     * @param action the name of the action.
+     * @param value  the value produced by the action, or {@code null}.
+     * @return the result.
+     */
+    public static ActionResult succeeded(String action, Object value) {
+        return new ActionResult(action, Status.SUCCEEDED, value, null);
+    }
+
+    /**
+     * Creates the result of a failed action.
+     *
+     * @param action  the name of the action.
+     * @param failure the exception that ended the action.
+     * @return the result.
+     */
+    public static ActionResult failed(String action, Throwable failure) {
+        return new ActionResult(action, Status.FAILED, null, failure);
+    }
+
+    /**
+     * Creates the result of an action that was dropped because it waited too long.
+     *
+     * @param action the name of the action.
+     * @return the result.
+     */
+    public static ActionResult expired(String action) {
+        return new ActionResult(action, Status.EXPIRED, null, null);
+    }
+
+    /**
+     * Creates the result of an action that was never handled.
+     *
+     * @param action the name of the action.
+     * @return the result.
+     */
+    public static ActionResult cancelled(String action) {
+        return new ActionResult(action, Status.CANCELLED, null, null);
+    }
+
+    /**
+     * Creates the result of an action that was rejected because the queue was full.
+     *
+     * @param action the name of the action.
+     * @return the result.
+     */
+    public static ActionResult rejected(String action) {
+        return new ActionResult(action, Status.REJECTED, null, null);
+    }
+
+    /**
+     * Creates the result of an action that was cancelled because it took longer than its time budget.
+     *
+     * @param action the name of the action.
+     * @return the result.
+     */
+    public static ActionResult timedOut(String action) {
+        return new ActionResult(action, Status.TIMED_OUT, null, null);
+    }
+
+    /**
+     * Gets the name of the action.
+     *
+     * @return the name of the action.
+     */
+    public String getAction() {
+        return action;
+    }
+
+    /**
+     * Gets how the action ended.
+     *
+     * @return the status of the action.
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Checks whether the action was handled without an error.
+     *
+     * @return {@code true} if the status is {@link Status#SUCCEEDED}.
+     */
+    public boolean isSuccessful() {
+        return status == Status.SUCCEEDED;
+    }
+
+    /**
+     * Gets the value produced by the action.
+     *
+     * @return the value, or {@code null} if the action produced none.
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the value produced by the action as the given type.
+     *
+     * @param type the expected type of the value.
+     * @param <T>  the expected type of the value.
+     * @return the value, or {@code null} if the action produced none or a value of another type.
+     */
+    public <T> T getValue(Class<T> type) {
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
+    /**
+     * Gets the exception that ended the action.
+     *
+     * @return the exception, or {@code null} if the action did not fail.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Returns a string representation of the result.
+     *
+     * @return a string containing the action, the status and the value or failure.
+     */
+    @Override
+    public String toString() {
+        return "ActionResult{" +
+                "action='" + action + '\'' +
+                ", status=" + status +
+                ", value=" + value +
+                ", failure=" + failure +
+                '}';
+    }
+}
@@ -1,7 +1,12 @@
 package eu.hobbydev.bracheus.classes;
 
 
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
+import eu.hobbydev.bracheus.settings.SeleniagramResourceFilter;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Copyright (C) 2025 Bracheus
@@ -49,6 +54,107 @@ public class ConfigurationHolder implements eu.hobbydev.bracheus.interfaces.Conf
     @JacksonXmlProperty(localName = "apiKey")
     private String apiKey;
 
+    @JacksonXmlProperty(localName = "sitePacing")
+    private long sitePacing = 5000;
+
+    @JacksonXmlProperty(localName = "inputPacing")
+    private long inputPacing = 500;
+
+    @JacksonXmlProperty(localName = "pageTimeout")
+    private long pageTimeout = 5000;
+
+    @JacksonXmlProperty(localName = "bulkTextEntry")
+    private boolean bulkTextEntry = true;
+
+    @JacksonXmlElementWrapper(localName = "blockedResourceTypes")
+    @JacksonXmlProperty(localName = "type")
+    private List<String> blockedResourceTypes = new ArrayList<>(SeleniagramResourceFilter.DEFAULT_RESOURCE_TYPES);
+
+    @JacksonXmlElementWrapper(localName = "blockedUrls")
+    @JacksonXmlProperty(localName = "url")
+    private List<String> blockedUrls = new ArrayList<>(SeleniagramResourceFilter.DEFAULT_BLOCKED_URLS);
+
+    @JacksonXmlProperty(localName = "chromeBinary")
+    private String chromeBinary = "";
+
+    @JacksonXmlProperty(localName = "headless")
+    private boolean headless = false;
+
+    @JacksonXmlProperty(localName = "disableGpu")
+    private boolean disableGpu = true;
+
+    @JacksonXmlProperty(localName = "disableExtensions")
+    private boolean disableExtensions = true;
+
+    @JacksonXmlProperty(localName = "rendererProcessLimit")
+    private int rendererProcessLimit = 2;
+
+    @JacksonXmlProperty(localName = "jsHeapSize")
+    private int jsHeapSize = 512;
+
+    @JacksonXmlProperty(localName = "diskCacheDir")
+    private String diskCacheDir = "";
+
+    @JacksonXmlProperty(localName = "diskCacheSize")
+    private int diskCacheSize = 64;
+
+    @JacksonXmlProperty(localName = "remoteDebuggingPort")
+    private int remoteDebuggingPort = 0;
+
+    @JacksonXmlProperty(localName = "userDataDir")
+    private String userDataDir = "chrome-profile";
+
+    @JacksonXmlProperty(localName = "standbyDriver")
+    private boolean standbyDriver = false;
+
+    @JacksonXmlProperty(localName = "watchdogInterval")
+    private long watchdogInterval = 15000;
+
+    @JacksonXmlProperty(localName = "openAIConcurrency")
+    private int openAIConcurrency = 4;
+
+    @JacksonXmlProperty(localName = "selfRefreshInterval")
+    private long selfRefreshInterval = 3600000;
+
+    @JacksonXmlProperty(localName = "actionQueueCapacity")
+    private int actionQueueCapacity = 500;
+
+    @JacksonXmlProperty(localName = "actionQueueOverflow")
+    private String actionQueueOverflow = "DROP_OLDEST";
+
+    @JacksonXmlProperty(localName = "shutdownDrainTimeout")
+    private long shutdownDrainTimeout = 5000;
+
+    @JacksonXmlProperty(localName = "pageLoadTimeout")
+    private long pageLoadTimeout = 30000;
+
+    @JacksonXmlProperty(localName = "scriptTimeout")
+    private long scriptTimeout = 30000;
+
+    @JacksonXmlProperty(localName = "circuitFailureThreshold")
+    private int circuitFailureThreshold = 3;
+
+    @JacksonXmlProperty(localName = "retryBaseDelay")
+    private long retryBaseDelay = 2000;
+
+    @JacksonXmlProperty(localName = "circuitOpenTime")
+    private long circuitOpenTime = 60000;
+
+    @JacksonXmlProperty(localName = "circuitMaxOpenTime")
+    private long circuitMaxOpenTime = 1800000;
+
+    @JacksonXmlProperty(localName = "userStore")
+    private boolean userStore = true;
+
+    @JacksonXmlProperty(localName = "userStoreCompactionSize")
+    private long userStoreCompactionSize = 8388608;
+
+    @JacksonXmlProperty(localName = "statsHistorySize")
+    private int statsHistorySize = 512;
+
+    @JacksonXmlProperty(localName = "compactUserStorage")
+    private boolean compactUserStorage = false;
+
     /**
      * Gets the username stored in this configuration.
      *
@@ -130,6 +236,666 @@ public class ConfigurationHolder implements eu.hobbydev.bracheus.interfaces.Conf
         this.apiKey = apiKey;
     }
 
+    /**
+     * Gets the minimum time in milliseconds between two site interactions.
+     *
+     * @return the site pacing in milliseconds
+     */
+    @Override
+    public long getSitePacing() {
+        return this.sitePacing;
+    }
+
+    /**
+     * Gets the minimum time in milliseconds between two inputs.
+     *
+     * @return the input pacing in milliseconds
+     */
+    @Override
+    public long getInputPacing() {
+        return this.inputPacing;
+    }
+
+    /**
+     * Gets the maximum time in milliseconds to wait for a page to become ready.
+     *
+     * @return the page timeout in milliseconds
+     */
+    @Override
+    public long getPageTimeout() {
+        return this.pageTimeout;
+    }
+
+    /**
+     * Sets the minimum time in milliseconds between two site interactions.
+     *
+     * @param sitePacing the site pacing in milliseconds
+     */
+    @Override
+    public void setSitePacing(long sitePacing) {
+        this.sitePacing = sitePacing;
+    }
+
+    /**
+     * Sets the minimum time in milliseconds between two inputs.
+     *
+     * @param inputPacing the input pacing in milliseconds
+     */
+    @Override
+    public void setInputPacing(long inputPacing) {
+        this.inputPacing = inputPacing;
+    }
+
+    /**
+     * Sets the maximum time in milliseconds to wait for a page to become ready.
+     *
+     * @param pageTimeout the page timeout in milliseconds
+     */
+    @Override
+    public void setPageTimeout(long pageTimeout) {
+        this.pageTimeout = pageTimeout;
+    }
+
+    /**
+     * Checks whether texts are entered at once instead of character by character.
+     *
+     * @return {@code true} if bulk text entry is enabled
+     */
+    @Override
+    public boolean isBulkTextEntry() {
+        return this.bulkTextEntry;
+    }
+
+    /**
+     * Sets whether texts are entered at once instead of character by character.
+     *
+     * @param bulkTextEntry {@code true} to enable bulk text entry
+     */
+    @Override
+    public void setBulkTextEntry(boolean bulkTextEntry) {
+        this.bulkTextEntry = bulkTextEntry;
+    }
+
+    /**
+     * Gets the resource types Chrome does not load, e.g. "image", "media" or "font".
+     *
+     * @return the blocked resource types
+     */
+    @Override
+    public List<String> getBlockedResourceTypes() {
+        return this.blockedResourceTypes;
+    }
+
+    /**
+     * Sets the resource types Chrome does not load.
+     *
+     * @param blockedResourceTypes the blocked resource types
+     */
+    @Override
+    public void setBlockedResourceTypes(List<String> blockedResourceTypes) {
+        this.blockedResourceTypes = blockedResourceTypes;
+    }
+
+    /**
+     * Gets the URL patterns Chrome does not load, e.g. third-party analytics.
+     *
+     * @return the blocked URL patterns
+     */
+    @Override
+    public List<String> getBlockedUrls() {
+        return this.blockedUrls;
+    }
+
+    /**
+     * Sets the URL patterns Chrome does not load.
+     *
+     * @param blockedUrls the blocked URL patterns
+     */
+    @Override
+    public void setBlockedUrls(List<String> blockedUrls) {
+        this.blockedUrls = blockedUrls;
+    }
+
+    /**
+     * Gets the path of the Chrome executable, empty to let Selenium locate Chrome.
+     *
+     * @return the Chrome executable path
+     */
+    @Override
+    public String getChromeBinary() {
+        return this.chromeBinary;
+    }
+
+    /**
+     * Sets the path of the Chrome executable, empty to let Selenium locate Chrome.
+     *
+     * @param chromeBinary the Chrome executable path
+     */
+    @Override
+    public void setChromeBinary(String chromeBinary) {
+        this.chromeBinary = chromeBinary;
+    }
+
+    /**
+     * Gets whether Chrome runs without a window.
+     *
+     * @return {@code true} if Chrome runs headless
+     */
+    @Override
+    public boolean isHeadless() {
+        return this.headless;
+    }
+
+    /**
+     * Sets whether Chrome runs without a window.
+     *
+     * @param headless {@code true} if Chrome runs headless
+     */
+    @Override
+    public void setHeadless(boolean headless) {
+        this.headless = headless;
+    }
+
+    /**
+     * Gets whether Chrome runs without GPU acceleration.
+     *
+     * @return {@code true} if the GPU is disabled
+     */
+    @Override
+    public boolean isDisableGpu() {
+        return this.disableGpu;
+    }
+
+    /**
+     * Sets whether Chrome runs without GPU acceleration.
+     *
+     * @param disableGpu {@code true} if the GPU is disabled
+     */
+    @Override
+    public void setDisableGpu(boolean disableGpu) {
+        this.disableGpu = disableGpu;
+    }
+
+    /**
+     * Gets whether Chrome runs without extensions.
+     *
+     * @return {@code true} if extensions are disabled
+     */
+    @Override
+    public boolean isDisableExtensions() {
+        return this.disableExtensions;
+    }
+
+    /**
+     * Sets whether Chrome runs without extensions.
+     *
+     * @param disableExtensions {@code true} if extensions are disabled
+     */
+    @Override
+    public void setDisableExtensions(boolean disableExtensions) {
+        this.disableExtensions = disableExtensions;
+    }
+
+    /**
+     * Gets the maximum number of renderer processes, 0 for the Chrome default.
+     *
+     * @return the renderer process limit
+     */
+    @Override
+    public int getRendererProcessLimit() {
+        return this.rendererProcessLimit;
+    }
+
+    /**
+     * Sets the maximum number of renderer processes, 0 for the Chrome default.
+     *
+     * @param rendererProcessLimit the renderer process limit
+     */
+    @Override
+    public void setRendererProcessLimit(int rendererProcessLimit) {
+        this.rendererProcessLimit = rendererProcessLimit;
+    }
+
+    /**
+     * Gets the maximum V8 heap size in megabytes, 0 for the Chrome default.
+     *
+     * @return the V8 heap size in megabytes
+     */
+    @Override
+    public int getJsHeapSize() {
+        return this.jsHeapSize;
+    }
+
+    /**
+     * Sets the maximum V8 heap size in megabytes, 0 for the Chrome default.
+     *
+     * @param jsHeapSize the V8 heap size in megabytes
+     */
+    @Override
+    public void setJsHeapSize(int jsHeapSize) {
+        this.jsHeapSize = jsHeapSize;
+    }
+
+    /**
+     * Gets the directory of the Chrome disk cache, empty for the Chrome default.
+     *
+     * @return the disk cache directory
+     */
+    @Override
+    public String getDiskCacheDir() {
+        return this.diskCacheDir;
+    }
+
+    /**
+     * Sets the directory of the Chrome disk cache, empty for the Chrome default.
+     *
+     * @param diskCacheDir the disk cache directory
+     */
+    @Override
+    public void setDiskCacheDir(String diskCacheDir) {
+        this.diskCacheDir = diskCacheDir;
+    }
+
+    /**
+     * Gets the maximum size of the Chrome disk cache in megabytes, 0 for the Chrome default.
+     *
+     * @return the disk cache size in megabytes
+     */
+    @Override
+    public int getDiskCacheSize() {
+        return this.diskCacheSize;
+    }
+
+    /**
+     * Sets the maximum size of the Chrome disk cache in megabytes, 0 for the Chrome default.
+     *
+     * @param diskCacheSize the disk cache size in megabytes
+     */
+    @Override
+    public void setDiskCacheSize(int diskCacheSize) {
+        this.diskCacheSize = diskCacheSize;
+    }
+
+    /**
+     * Gets the remote debugging port of Chrome, 0 to allocate a free port.
+     *
+     * @return the remote debugging port
+     */
+    @Override
+    public int getRemoteDebuggingPort() {
+        return this.remoteDebuggingPort;
+    }
+
+    /**
+     * Sets the remote debugging port of Chrome, 0 to allocate a free port.
+     *
+     * @param remoteDebuggingPort the remote debugging port
+     */
+    @Override
+    public void setRemoteDebuggingPort(int remoteDebuggingPort) {
+        this.remoteDebuggingPort = remoteDebuggingPort;
+    }
+
+    /**
+     * Gets the Chrome profile directory that keeps the browser session across restarts, relative to the jar directory, empty for a temporary profile.
+     *
+     * @return the Chrome profile directory
+     */
+    @Override
+    public String getUserDataDir() {
+        return this.userDataDir;
+    }
+
+    /**
+     * Sets the Chrome profile directory that keeps the browser session across restarts, relative to the jar directory, empty for a temporary profile.
+     *
+     * @param userDataDir the Chrome profile directory
+     */
+    @Override
+    public void setUserDataDir(String userDataDir) {
+        this.userDataDir = userDataDir;
+    }
+
+    /**
+     * Gets whether a second Chrome instance is kept ready to replace a crashed one.
+     *
+     * @return {@code true} if a standby browser is kept ready
+     */
+    @Override
+    public boolean isStandbyDriver() {
+        return this.standbyDriver;
+    }
+
+    /**
+     * Sets whether a second Chrome instance is kept ready to replace a crashed one.
+     *
+     * @param standbyDriver {@code true} if a standby browser is kept ready
+     */
+    @Override
+    public void setStandbyDriver(boolean standbyDriver) {
+        this.standbyDriver = standbyDriver;
+    }
+
+    /**
+     * Gets the time in milliseconds between two health checks of the browser session.
+     *
+     * @return the watchdog interval in milliseconds
+     */
+    @Override
+    public long getWatchdogInterval() {
+        return this.watchdogInterval;
+    }
+
+    /**
+     * Sets the time in milliseconds between two health checks of the browser session.
+     *
+     * @param watchdogInterval the watchdog interval in milliseconds
+     */
+    @Override
+    public void setWatchdogInterval(long watchdogInterval) {
+        this.watchdogInterval = watchdogInterval;
+    }
+
+    /**
+     * Gets the maximum number of OpenAI requests running at the same time.
+     *
+     * @return the maximum number of concurrent OpenAI requests
+     */
+    @Override
+    public int getOpenAIConcurrency() {
+        return this.openAIConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of OpenAI requests running at the same time.
+     *
+     * @param openAIConcurrency the maximum number of concurrent OpenAI requests
+     */
+    @Override
+    public void setOpenAIConcurrency(int openAIConcurrency) {
+        this.openAIConcurrency = openAIConcurrency;
+    }
+
+    /**
+     * Gets the time in milliseconds between two refreshes of the Seleniagram user, 0 disables the refresh.
+     *
+     * @return the refresh interval of the Seleniagram user in milliseconds
+     */
+    @Override
+    public long getSelfRefreshInterval() {
+        return this.selfRefreshInterval;
+    }
+
+    /**
+     * Sets the time in milliseconds between two refreshes of the Seleniagram user, 0 disables the refresh.
+     *
+     * @param selfRefreshInterval the refresh interval of the Seleniagram user in milliseconds
+     */
+    @Override
+    public void setSelfRefreshInterval(long selfRefreshInterval) {
+        this.selfRefreshInterval = selfRefreshInterval;
+    }
+
+    /**
+     * Gets the maximum number of actions waiting in the queue.
+     *
+     * @return the capacity of the action queue
+     */
+    @Override
+    public int getActionQueueCapacity() {
+        return this.actionQueueCapacity;
+    }
+
+    /**
+     * Sets the maximum number of actions waiting in the queue.
+     *
+     * @param actionQueueCapacity the capacity of the action queue
+     */
+    @Override
+    public void setActionQueueCapacity(int actionQueueCapacity) {
+        this.actionQueueCapacity = actionQueueCapacity;
+    }
+
+    /**
+     * Gets what happens to a new action when the queue is full: BLOCK, REJECT, DROP_OLDEST or COALESCE.
+     *
+     * @return the overflow policy of the action queue
+     */
+    @Override
+    public String getActionQueueOverflow() {
+        return this.actionQueueOverflow;
+    }
+
+    /**
+     * Sets what happens to a new action when the queue is full: BLOCK, REJECT, DROP_OLDEST or COALESCE.
+     *
+     * @param actionQueueOverflow the overflow policy of the action queue
+     */
+    @Override
+    public void setActionQueueOverflow(String actionQueueOverflow) {
+        this.actionQueueOverflow = actionQueueOverflow;
+    }
+
+    /**
+     * Gets how long a graceful shutdown waits for the running action and listener checkup to finish, in milliseconds. Afterwards they are cancelled.
+     *
+     * @return the drain timeout in milliseconds.
+     */
+    @Override
+    public long getShutdownDrainTimeout() {
+        return this.shutdownDrainTimeout;
+    }
+
+    /**
+     * Sets how long a graceful shutdown waits for the running action and listener checkup to finish, in milliseconds. Afterwards they are cancelled.
+     *
+     * @param shutdownDrainTimeout the drain timeout in milliseconds.
+     */
+    @Override
+    public void setShutdownDrainTimeout(long shutdownDrainTimeout) {
+        this.shutdownDrainTimeout = shutdownDrainTimeout;
+    }
+
+    /**
+     * Gets how long the browser waits for a page to load before the navigation fails, in milliseconds.
+     *
+     * @return the page load timeout in milliseconds.
+     */
+    @Override
+    public long getPageLoadTimeout() {
+        return this.pageLoadTimeout;
+    }
+
+    /**
+     * Sets how long the browser waits for a page to load before the navigation fails, in milliseconds.
+     *
+     * @param pageLoadTimeout the page load timeout in milliseconds.
+     */
+    @Override
+    public void setPageLoadTimeout(long pageLoadTimeout) {
+        this.pageLoadTimeout = pageLoadTimeout;
+    }
+
+    /**
+     * Gets how long the browser waits for an asynchronous page script before it fails, in milliseconds.
+     *
+     * @return the script timeout in milliseconds.
+     */
+    @Override
+    public long getScriptTimeout() {
+        return this.scriptTimeout;
+    }
+
+    /**
+     * Sets how long the browser waits for an asynchronous page script before it fails, in milliseconds.
+     *
+     * @param scriptTimeout the script timeout in milliseconds.
+     */
+    @Override
+    public void setScriptTimeout(long scriptTimeout) {
+        this.scriptTimeout = scriptTimeout;
+    }
+
+    /**
+     * Gets the number of consecutive failures of a step, e.g. a missing locator, after which its circuit opens.
+     *
+     * @return the failure threshold.
+     */
+    @Override
+    public int getCircuitFailureThreshold() {
+        return this.circuitFailureThreshold;
+    }
+
+    /**
+     * Sets the number of consecutive failures of a step, e.g. a missing locator, after which its circuit opens.
+     *
+     * @param circuitFailureThreshold the failure threshold.
+     */
+    @Override
+    public void setCircuitFailureThreshold(int circuitFailureThreshold) {
+        this.circuitFailureThreshold = circuitFailureThreshold;
+    }
+
+    /**
+     * Gets the delay before the first retry of a failed step in milliseconds. The delay doubles with every further failure.
+     *
+     * @return the base retry delay in milliseconds.
+     */
+    @Override
+    public long getRetryBaseDelay() {
+        return this.retryBaseDelay;
+    }
+
+    /**
+     * Sets the delay before the first retry of a failed step in milliseconds. The delay doubles with every further failure.
+     *
+     * @param retryBaseDelay the base retry delay in milliseconds.
+     */
+    @Override
+    public void setRetryBaseDelay(long retryBaseDelay) {
+        this.retryBaseDelay = retryBaseDelay;
+    }
+
+    /**
+     * Gets how long an open circuit refuses a failing step the first time, in milliseconds.
+     *
+     * @return the open time in milliseconds.
+     */
+    @Override
+    public long getCircuitOpenTime() {
+        return this.circuitOpenTime;
+    }
+
+    /**
+     * Sets how long an open circuit refuses a failing step the first time, in milliseconds.
+     *
+     * @param circuitOpenTime the open time in milliseconds.
+     */
+    @Override
+    public void setCircuitOpenTime(long circuitOpenTime) {
+        this.circuitOpenTime = circuitOpenTime;
+    }
+
+    /**
+     * Gets the longest time an open circuit refuses a failing step, in milliseconds.
+     *
+     * @return the maximum open time in milliseconds.
+     */
+    @Override
+    public long getCircuitMaxOpenTime() {
+        return this.circuitMaxOpenTime;
+    }
+
+    /**
+     * Sets the longest time an open circuit refuses a failing step, in milliseconds.
+     *
+     * @param circuitMaxOpenTime the maximum open time in milliseconds.
+     */
+    @Override
+    public void setCircuitMaxOpenTime(long circuitMaxOpenTime) {
+        this.circuitMaxOpenTime = circuitMaxOpenTime;
+    }
+
+    /**
+     * Gets whether the known and followed users are stored in the user log and snapshot next to the jar, so they survive a restart.
+     *
+     * @return true if the users are stored.
+     */
+    @Override
+    public boolean isUserStore() {
+        return this.userStore;
+    }
+
+    /**
+     * Sets whether the known and followed users are stored in the user log and snapshot next to the jar, so they survive a restart.
+     *
+     * @param userStore true if the users are stored.
+     */
+    @Override
+    public void setUserStore(boolean userStore) {
+        this.userStore = userStore;
+    }
+
+    /**
+     * Gets the size in bytes of the user log after which it is compacted into a new snapshot.
+     *
+     * @return the compaction size in bytes.
+     */
+    @Override
+    public long getUserStoreCompactionSize() {
+        return this.userStoreCompactionSize;
+    }
+
+    /**
+     * Sets the size in bytes of the user log after which it is compacted into a new snapshot.
+     *
+     * @param userStoreCompactionSize the compaction size in bytes.
+     */
+    @Override
+    public void setUserStoreCompactionSize(long userStoreCompactionSize) {
+        this.userStoreCompactionSize = userStoreCompactionSize;
+    }
+
+    /**
+     * Gets the number of samples of the profile counters kept per user in the stats history.
+     *
+     * @return the number of samples per user.
+     */
+    @Override
+    public int getStatsHistorySize() {
+        return this.statsHistorySize;
+    }
+
+    /**
+     * Sets the number of samples of the profile counters kept per user in the stats history.
+     *
+     * @param statsHistorySize the number of samples per user.
+     */
+    @Override
+    public void setStatsHistorySize(int statsHistorySize) {
+        this.statsHistorySize = statsHistorySize;
+    }
+
+    /**
+     * Gets whether the known users are kept in primitive arrays instead of one object per user, which needs a fraction of the heap for very large sets of tracked users.
+     *
+     * @return true if the known users are kept in a compact storage.
+     */
+    @Override
+    public boolean isCompactUserStorage() {
+        return this.compactUserStorage;
+    }
+
+    /**
+     * Sets whether the known users are kept in primitive arrays instead of one object per user, which needs a fraction of the heap for very large sets of tracked users.
+     *
+     * @param compactUserStorage true if the known users are kept in a compact storage.
+     */
+    @Override
+    public void setCompactUserStorage(boolean compactUserStorage) {
+        this.compactUserStorage = compactUserStorage;
+    }
+
     /**
      * Returns a string representation of this configuration.
      * This method masks sensitive information (password and API key) for security purposes.
@@ -143,6 +909,39 @@ public class ConfigurationHolder implements eu.hobbydev.bracheus.interfaces.Conf
                 ", password='****'" +  // Masked for security
                 ", lang='" + lang + '\'' +
                 ", apiKey='" + (apiKey != null ? "****" : null) + '\'' +  // Mask API key
+                ", sitePacing=" + sitePacing +
+                ", inputPacing=" + inputPacing +
+                ", pageTimeout=" + pageTimeout +
+                ", bulkTextEntry=" + bulkTextEntry +
+                ", blockedResourceTypes=" + blockedResourceTypes +
+                ", blockedUrls=" + blockedUrls +
+                ", chromeBinary=" + chromeBinary +
+                ", headless=" + headless +
+                ", disableGpu=" + disableGpu +
+                ", disableExtensions=" + disableExtensions +
+                ", rendererProcessLimit=" + rendererProcessLimit +
+                ", jsHeapSize=" + jsHeapSize +
+                ", diskCacheDir=" + diskCacheDir +
+                ", diskCacheSize=" + diskCacheSize +
+                ", remoteDebuggingPort=" + remoteDebuggingPort +
+                ", userDataDir=" + userDataDir +
+                ", standbyDriver=" + standbyDriver +
+                ", watchdogInterval=" + watchdogInterval +
+                ", openAIConcurrency=" + openAIConcurrency +
+                ", selfRefreshInterval=" + selfRefreshInterval +
+                ", actionQueueCapacity=" + actionQueueCapacity +
+                ", actionQueueOverflow=" + actionQueueOverflow +
+                ", shutdownDrainTimeout=" + shutdownDrainTimeout +
+                ", pageLoadTimeout=" + pageLoadTimeout +
+                ", scriptTimeout=" + scriptTimeout +
+                ", circuitFailureThreshold=" + circuitFailureThreshold +
+                ", retryBaseDelay=" + retryBaseDelay +
+                ", circuitOpenTime=" + circuitOpenTime +
+                ", circuitMaxOpenTime=" + circuitMaxOpenTime +
+                ", userStore=" + userStore +
+                ", userStoreCompactionSize=" + userStoreCompactionSize +
+                ", statsHistorySize=" + statsHistorySize +
+                ", compactUserStorage=" + compactUserStorage +
                 '}';
     }
 }
\ No newline at end of file
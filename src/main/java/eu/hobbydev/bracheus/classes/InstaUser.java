@@ -29,6 +29,10 @@ import eu.hobbydev.bracheus.interfaces.User;
  * This class assumes the user has a username, and the number of subscribers, subscriptions, and posts
  * can be modified as needed.
  * </p>
+ *
+ * <p>Users stored in the {@link eu.hobbydev.bracheus.manager.UserManager} are published snapshots: they carry the
+ * version they were stored with and can no longer be modified, so every reader sees consistent counters without
+ * locking. Changes are made on a copy through {@code UserManager.updateInstaUser} and friends.</p>
  */
 public class InstaUser implements User {
 
@@ -36,6 +40,8 @@ public class InstaUser implements User {
     private int subs;
     private int subbed;
     private int posts;
+    private long version;
+    private boolean published;
 
     /**
      * Constructor to create an InstaUser with a given username.
@@ -46,6 +52,65 @@ public class InstaUser implements User {
         this.username = username;
     }
 
+    /**
+     * Constructor to create a modifiable copy of an InstaUser, e.g. of a published snapshot.
+     * The copy has the same username, counters and version.
+     *
+     * @param other the user to copy.
+     */
+    public InstaUser(InstaUser other) {
+        this.username = other.username;
+        this.subs = other.subs;
+        this.subbed = other.subbed;
+        this.posts = other.posts;
+        this.version = other.version;
+    }
+
+    /**
+     * Gets the version of this user. It is increased every time the user is stored in the
+     * {@link eu.hobbydev.bracheus.manager.UserManager}.
+     *
+     * @return the version, 0 if the user was never stored.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Checks whether this user is a published snapshot that can no longer be modified.
+     *
+     * @return {@code true} if the user is published.
+     */
+    public boolean isPublished() {
+        return published;
+    }
+
+    /**
+     * Publishes this user as a snapshot with the given version. Afterwards, every setter throws.
+     * Called by the {@link eu.hobbydev.bracheus.manager.UserManager} before the user becomes visible to readers.
+     *
+     * @param version the version of the snapshot.
+     * @return this user.
+     * @throws IllegalStateException if the user is already published.
+     */
+    public InstaUser publish(long version) {
+        checkModifiable();
+        this.version = version;
+        this.published = true;
+        return this;
+    }
+
+    /**
+     * Throws if this user is a published snapshot.
+     *
+     * @throws IllegalStateException if the user is published.
+     */
+    private void checkModifiable() {
+        if (published) {
+            throw new IllegalStateException("InstaUser " + username + " is a published snapshot. Update it through the UserManager!");
+        }
+    }
+
     /**
      * Gets the username of the Instagram user.
      *
@@ -90,9 +155,11 @@ public class InstaUser implements User {
      * Sets the number of subscribers the user has.
      *
      * @param subs the new number of subscribers.
+     * @throws IllegalStateException if the user is a published snapshot.
      */
     @Override
     public void setSubs(int subs) {
+        checkModifiable();
         this.subs = subs;
     }
 
@@ -100,9 +167,11 @@ public class InstaUser implements User {
      * Sets the number of users the current user is subscribed to.
      *
      * @param subbed the new number of subscriptions.
+     * @throws IllegalStateException if the user is a published snapshot.
      */
     @Override
     public void setSubbed(int subbed) {
+        checkModifiable();
         this.subbed = subbed;
     }
 
@@ -110,9 +179,36 @@ public class InstaUser implements User {
      * Sets the number of posts made by the user.
      *
      * @param posts the new number of posts.
+     * @throws IllegalStateException if the user is a published snapshot.
      */
     @Override
     public void setPosts(int posts) {
+        checkModifiable();
         this.posts = posts;
     }
+
+    /**
+     * Checks whether the given object is an Instagram user with the same username.
+     * Usernames identify accounts, so the counters are not compared.
+     *
+     * @param o the object to compare with.
+     * @return {@code true} if the object is an InstaUser with the same username.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof InstaUser other && username.equals(other.username);
+    }
+
+    /**
+     * Returns the hash code of the username, consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code of the user.
+     */
+    @Override
+    public int hashCode() {
+        return username.hashCode();
+    }
 }
\ No newline at end of file
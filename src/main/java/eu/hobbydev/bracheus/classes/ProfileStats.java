@@ -0,0 +1,117 @@
+package eu.hobbydev.bracheus.classes;
+
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The ProfileStats class holds the counters shown on an Instagram profile page.
+ * It is deserialized from the JSON object returned by the profile extraction script,
+ * which reads the posts, followers and following counters with a single page script.
+ * <p>
+ * The counters are kept as the text shown on the page, the caller is responsible for parsing them.
+ * </p>
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ProfileStats {
+
+    @JsonProperty("found")
+    private int found;
+
+    @JsonProperty("posts")
+    private String posts;
+
+    @JsonProperty("followers")
+    private String followers;
+
+    @JsonProperty("following")
+    private String following;
+
+    /**
+     * Gets the number of counter entries found on the profile page.
+     *
+     * @return the number of counter entries.
+     */
+    public int getFound() {
+        return found;
+    }
+
+    /**
+     * Gets the text of the posts counter.
+     *
+     * @return the posts counter text, or {@code null} if it was not found.
+     */
+    public String getPosts() {
+        return posts;
+    }
+
+    /**
+     * Gets the text of the followers counter.
+     *
+     * @return the followers counter text, or {@code null} if it was not found.
+     */
+    public String getFollowers() {
+        return followers;
+    }
+
+    /**
+     * Gets the text of the following counter.
+     *
+     * @return the following counter text, or {@code null} if it was not found.
+     */
+    public String getFollowing() {
+        return following;
+    }
+
+    /**
+     * Checks whether all three counters were found and contain text.
+     *
+     * @return {@code true} if posts, followers and following are present, otherwise {@code false}.
+     */
+    public boolean isComplete() {
+        return isPresent(posts) && isPresent(followers) && isPresent(following);
+    }
+
+    /**
+     * Checks whether the given counter text is present and not empty.
+     *
+     * @param text the counter text to check.
+     * @return {@code true} if the text is not {@code null} and not empty.
+     */
+    private static boolean isPresent(String text) {
+        return text != null && !text.isEmpty();
+    }
+
+    /**
+     * Returns a string representation of the profile counters.
+     *
+     * @return a string containing all counters.
+     */
+    @Override
+    public String toString() {
+        return "ProfileStats{" +
+                "found=" + found +
+                ", posts='" + posts + '\'' +
+                ", followers='" + followers + '\'' +
+                ", following='" + following + '\'' +
+                '}';
+    }
+}
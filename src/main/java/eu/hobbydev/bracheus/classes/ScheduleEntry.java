@@ -0,0 +1,176 @@
+package eu.hobbydev.bracheus.classes;
+
+
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The `ScheduleEntry` class stores a single delayed or recurring action of the
+ * {@link eu.hobbydev.bracheus.manager.TimerWheelManager} in the schedule file.
+ * <p>
+ * The action itself is not stored. Instead, the entry names the type of the action and its argument, e.g. the type
+ * "UpdateUserAction" and the username, so the action can be created again by the registered factory after a restart.
+ */
+public class ScheduleEntry {
+
+    @JacksonXmlProperty(localName = "id")
+    private String id;
+
+    @JacksonXmlProperty(localName = "type")
+    private String type;
+
+    @JacksonXmlProperty(localName = "argument")
+    private String argument;
+
+    @JacksonXmlProperty(localName = "nextRun")
+    private long nextRun;
+
+    @JacksonXmlProperty(localName = "period")
+    private long period;
+
+    /**
+     * Constructs an empty entry, used when the schedule file is read.
+     */
+    public ScheduleEntry() {
+    }
+
+    /**
+     * Constructs an entry with all values.
+     *
+     * @param id       the unique id of the timer.
+     * @param type     the type of the action, used to find its factory.
+     * @param argument the argument passed to the factory, e.g. a username.
+     * @param nextRun  the time of the next run in milliseconds since the epoch.
+     * @param period   the time in milliseconds between two runs, or 0 for a single run.
+     */
+    public ScheduleEntry(String id, String type, String argument, long nextRun, long period) {
+        this.id = id;
+        this.type = type;
+        this.argument = argument;
+        this.nextRun = nextRun;
+        this.period = period;
+    }
+
+    /**
+     * Gets the unique id of the timer.
+     *
+     * @return the id of the timer.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Sets the unique id of the timer.
+     *
+     * @param id the id of the timer.
+     */
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the type of the action.
+     *
+     * @return the type of the action.
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Sets the type of the action.
+     *
+     * @param type the type of the action.
+     */
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Gets the argument passed to the factory of the action.
+     *
+     * @return the argument, e.g. a username.
+     */
+    public String getArgument() {
+        return argument;
+    }
+
+    /**
+     * Sets the argument passed to the factory of the action.
+     *
+     * @param argument the argument, e.g. a username.
+     */
+    public void setArgument(String argument) {
+        this.argument = argument;
+    }
+
+    /**
+     * Gets the time of the next run.
+     *
+     * @return the time of the next run in milliseconds since the epoch.
+     */
+    public long getNextRun() {
+        return nextRun;
+    }
+
+    /**
+     * Sets the time of the next run.
+     *
+     * @param nextRun the time of the next run in milliseconds since the epoch.
+     */
+    public void setNextRun(long nextRun) {
+        this.nextRun = nextRun;
+    }
+
+    /**
+     * Gets the time between two runs.
+     *
+     * @return the period in milliseconds, or 0 for a single run.
+     */
+    public long getPeriod() {
+        return period;
+    }
+
+    /**
+     * Sets the time between two runs.
+     *
+     * @param period the period in milliseconds, or 0 for a single run.
+     */
+    public void setPeriod(long period) {
+        this.period = period;
+    }
+
+    /**
+     * Returns a string representation of the entry.
+     *
+     * @return a string containing all values of the entry.
+     */
+    @Override
+    public String toString() {
+        return "ScheduleEntry{" +
+                "id='" + id + '\'' +
+                ", type='" + type + '\'' +
+                ", argument='" + argument + '\'' +
+                ", nextRun=" + nextRun +
+                ", period=" + period +
+                '}';
+    }
+}
@@ -0,0 +1,55 @@
+package eu.hobbydev.bracheus.classes;
+
+
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The `ScheduleHolder` class is the content of the schedule file. It holds all timers of the
+ * {@link eu.hobbydev.bracheus.manager.TimerWheelManager}, so they can be armed again after a restart.
+ */
+public class ScheduleHolder {
+
+    @JacksonXmlElementWrapper(localName = "entries")
+    @JacksonXmlProperty(localName = "entry")
+    private List<ScheduleEntry> entries = new ArrayList<>();
+
+    /**
+     * Gets the stored timers.
+     *
+     * @return the stored timers.
+     */
+    public List<ScheduleEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Sets the stored timers.
+     *
+     * @param entries the timers to store.
+     */
+    public void setEntries(List<ScheduleEntry> entries) {
+        this.entries = entries;
+    }
+}
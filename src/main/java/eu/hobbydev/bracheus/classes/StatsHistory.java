@@ -0,0 +1,548 @@
+package eu.hobbydev.bracheus.classes;
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The StatsHistory class keeps the profile counters of one user over time, so the growth of the user can be analysed.
+ * <p>
+ * Samples of (time, posts, subs, subbed) are not stored as objects. They are encoded into a single byte array: the
+ * oldest sample with its absolute values, every further sample as the difference to its predecessor. All values are
+ * zigzag-encoded varints, so a typical sample, a few minutes and a handful of followers after the previous one, takes
+ * four to six bytes. When the history holds its capacity of samples, the oldest quarter is dropped at once and the new
+ * oldest sample is re-encoded with its absolute values, like a ring buffer that is compacted in batches.
+ * </p>
+ *
+ * <p>The growth per day over the whole history and exponential moving averages of the growth per day are updated
+ * with every sample, so reading them costs nothing. A history can be streamed with {@link #writeTo(DataOutput)} and
+ * read back with {@link #readFrom(DataInput)}; the encoded bytes are written as they are. {@link #toCompactBytes()}
+ * encodes it with a smaller header for keeping it in memory. All methods are thread-safe.</p>
+ */
+public class StatsHistory {
+
+    /**
+     * Number of samples kept by default.
+     */
+    public static final int DEFAULT_CAPACITY = 512;
+
+    private static final long SECONDS_PER_DAY = 86400;
+    // Weight of the newest rate in the moving averages.
+    private static final double SMOOTHING = 0.2;
+
+    private final int capacity;
+    private byte[] data = new byte[64];
+    private int size = 0;
+    private int count = 0;
+    private long firstTime;
+    private int firstPosts;
+    private int firstSubs;
+    private long lastTime;
+    private int lastPosts;
+    private int lastSubs;
+    private int lastSubbed;
+    private double subsRate = Double.NaN;
+    private double postsRate = Double.NaN;
+
+    /**
+     * Constructs an empty history.
+     *
+     * @param capacity the number of samples to keep, at least 2.
+     */
+    public StatsHistory(int capacity) {
+        this.capacity = Math.max(2, capacity);
+    }
+
+    /**
+     * A decoded sample of the history.
+     *
+     * @param time   the time of the sample in seconds since the epoch.
+     * @param posts  the number of posts.
+     * @param subs   the number of subscribers.
+     * @param subbed the number of subscriptions.
+     */
+    public record Sample(long time, int posts, int subs, int subbed) {
+    }
+
+    /**
+     * Adds a sample. A sample older than the newest one is stored with the time of the newest one.
+     *
+     * @param time   the time of the sample in seconds since the epoch.
+     * @param posts  the number of posts.
+     * @param subs   the number of subscribers.
+     * @param subbed the number of subscriptions.
+     */
+    public synchronized void add(long time, int posts, int subs, int subbed) {
+        if (count == 0) {
+            ensureCapacity(4 * 10);
+            writeVarLong(time);
+            writeVarLong(posts);
+            writeVarLong(subs);
+            writeVarLong(subbed);
+            firstTime = time;
+            firstPosts = posts;
+            firstSubs = subs;
+        } else {
+            if (count >= capacity) {
+                evict(Math.max(1, capacity / 4));
+            }
+            time = Math.max(time, lastTime);
+            ensureCapacity(4 * 10);
+            writeVarLong(time - lastTime);
+            writeVarLong((long) posts - lastPosts);
+            writeVarLong((long) subs - lastSubs);
+            writeVarLong((long) subbed - lastSubbed);
+            long elapsed = time - lastTime;
+            if (elapsed > 0) {
+                subsRate = smooth(subsRate, (subs - lastSubs) * (double) SECONDS_PER_DAY / elapsed);
+                postsRate = smooth(postsRate, (posts - lastPosts) * (double) SECONDS_PER_DAY / elapsed);
+            }
+        }
+        lastTime = time;
+        lastPosts = posts;
+        lastSubs = subs;
+        lastSubbed = subbed;
+        count++;
+    }
+
+    /**
+     * Gets the number of samples in the history.
+     *
+     * @return the number of samples.
+     */
+    public synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the number of bytes used by the encoded samples.
+     *
+     * @return the encoded size in bytes.
+     */
+    public synchronized int getEncodedSize() {
+        return size;
+    }
+
+    /**
+     * Gets the newest sample.
+     *
+     * @return the newest sample, or {@code null} if the history is empty.
+     */
+    public synchronized Sample getLast() {
+        return count == 0 ? null : new Sample(lastTime, lastPosts, lastSubs, lastSubbed);
+    }
+
+    /**
+     * Decodes all samples, from the oldest to the newest.
+     *
+     * @return the samples.
+     */
+    public synchronized List<Sample> getSamples() {
+        List<Sample> samples = new ArrayList<>(count);
+        Decoder decoder = new Decoder();
+        for (int i = 0; i < count; i++) {
+            decoder.next();
+            samples.add(new Sample(decoder.time, decoder.posts, decoder.subs, decoder.subbed));
+        }
+        return samples;
+    }
+
+    /**
+     * Gets the growth of subscribers per day between the oldest and the newest sample.
+     *
+     * @return the growth per day, or 0 if the history covers less than a second.
+     */
+    public synchronized double getSubsGrowthPerDay() {
+        return perDay((long) lastSubs - firstSubs);
+    }
+
+    /**
+     * Gets the growth of posts per day between the oldest and the newest sample.
+     *
+     * @return the growth per day, or 0 if the history covers less than a second.
+     */
+    public synchronized double getPostsGrowthPerDay() {
+        return perDay((long) lastPosts - firstPosts);
+    }
+
+    /**
+     * Gets the exponential moving average of the subscriber growth per day between consecutive samples.
+     * Recent samples weigh more, so it follows changes of the trend faster than {@link #getSubsGrowthPerDay()}.
+     *
+     * @return the moving average, or {@link Double#NaN} if there are not yet two samples at different times.
+     */
+    public synchronized double getSubsGrowthAverage() {
+        return subsRate;
+    }
+
+    /**
+     * Gets the exponential moving average of the post growth per day between consecutive samples.
+     *
+     * @return the moving average, or {@link Double#NaN} if there are not yet two samples at different times.
+     */
+    public synchronized double getPostsGrowthAverage() {
+        return postsRate;
+    }
+
+    /**
+     * Writes the history to the given output. The encoded samples are written as they are.
+     *
+     * @param out the output to write to.
+     * @throws IOException if the history cannot be written.
+     */
+    public synchronized void writeTo(DataOutput out) throws IOException {
+        out.writeInt(capacity);
+        out.writeInt(count);
+        out.writeDouble(subsRate);
+        out.writeDouble(postsRate);
+        out.writeInt(size);
+        out.write(data, 0, size);
+    }
+
+    /**
+     * Reads a history written by {@link #writeTo(DataOutput)}.
+     *
+     * @param in the input to read from.
+     * @return the history.
+     * @throws IOException if the history cannot be read.
+     */
+    public static StatsHistory readFrom(DataInput in) throws IOException {
+        return readFrom(in, 0);
+    }
+
+    /**
+     * Reads a history written by {@link #writeTo(DataOutput)} and keeps at most the given number of samples, e.g.
+     * after the configured capacity was lowered. The oldest samples beyond the capacity are dropped.
+     *
+     * @param in       the input to read from.
+     * @param capacity the number of samples to keep, or 0 to keep the stored capacity.
+     * @return the history.
+     * @throws IOException if the history cannot be read.
+     */
+    public static StatsHistory readFrom(DataInput in, int capacity) throws IOException {
+        int storedCapacity = in.readInt();
+        int samples = in.readInt();
+        double subsRate = in.readDouble();
+        double postsRate = in.readDouble();
+        int length = in.readInt();
+        if (samples < 0 || length < 0 || samples > length) {
+            throw new IOException("Invalid stats history");
+        }
+        byte[] data = new byte[Math.max(length, 64)];
+        in.readFully(data, 0, length);
+        return restore(capacity > 0 ? capacity : storedCapacity, samples, subsRate, postsRate, data, length);
+    }
+
+    /**
+     * Encodes the history into as few bytes as possible, for keeping many histories in memory: the capacity and the
+     * number of samples as varints, the moving averages as floats, followed by the encoded samples. Unlike
+     * {@link #toBytes()}, the averages lose some precision.
+     *
+     * @return the encoded history.
+     */
+    public synchronized byte[] toCompactBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(5 + 5 + 8 + size);
+        putVarInt(buffer, capacity);
+        putVarInt(buffer, count);
+        buffer.putFloat((float) subsRate).putFloat((float) postsRate).put(data, 0, size);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    /**
+     * Reads a history encoded by {@link #toCompactBytes()}.
+     *
+     * @param bytes the encoded history.
+     * @return the history.
+     * @throws IOException if the bytes are not a valid history.
+     */
+    public static StatsHistory fromCompactBytes(byte[] bytes) throws IOException {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            int capacity = getVarInt(buffer);
+            int samples = getVarInt(buffer);
+            double subsRate = buffer.getFloat();
+            double postsRate = buffer.getFloat();
+            int length = buffer.remaining();
+            if (samples < 0 || samples > length) {
+                throw new IOException("Invalid stats history");
+            }
+            byte[] data = new byte[Math.max(length, 64)];
+            buffer.get(data, 0, length);
+            return restore(capacity, samples, subsRate, postsRate, data, length);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Invalid stats history", e);
+        }
+    }
+
+    /**
+     * Creates a history from its encoded samples and decodes the first and the last sample. The oldest samples beyond
+     * the capacity are dropped.
+     *
+     * @param capacity  the number of samples to keep.
+     * @param samples   the number of encoded samples.
+     * @param subsRate  the moving average of the subscriber growth.
+     * @param postsRate the moving average of the post growth.
+     * @param data      the encoded samples, owned by the history from now on.
+     * @param length    the number of used bytes in {@code data}.
+     * @return the history.
+     * @throws IOException if the samples cannot be decoded.
+     */
+    private static StatsHistory restore(int capacity, int samples, double subsRate, double postsRate, byte[] data,
+                                        int length) throws IOException {
+        StatsHistory history = new StatsHistory(capacity);
+        synchronized (history) {
+            history.data = data;
+            history.size = length;
+            history.count = samples;
+            history.subsRate = subsRate;
+            history.postsRate = postsRate;
+            Decoder decoder = history.new Decoder();
+            try {
+                for (int i = 0; i < samples; i++) {
+                    decoder.next();
+                    if (i == 0) {
+                        history.firstTime = decoder.time;
+                        history.firstPosts = decoder.posts;
+                        history.firstSubs = decoder.subs;
+                    }
+                }
+            } catch (IllegalStateException e) {
+                throw new IOException("Invalid stats history", e);
+            }
+            if (decoder.position != length) {
+                throw new IOException("Invalid stats history");
+            }
+            history.lastTime = decoder.time;
+            history.lastPosts = decoder.posts;
+            history.lastSubs = decoder.subs;
+            history.lastSubbed = decoder.subbed;
+            if (history.count > history.capacity) {
+                history.evict(history.count - history.capacity);
+            }
+        }
+        return history;
+    }
+
+    /**
+     * Writes the history into a byte array.
+     *
+     * @return the bytes written by {@link #writeTo(DataOutput)}.
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeTo(out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads a history from a byte array written by {@link #toBytes()}.
+     *
+     * @param bytes the bytes to read.
+     * @return the history.
+     * @throws IOException if the bytes are not a valid history.
+     */
+    public static StatsHistory fromBytes(byte[] bytes) throws IOException {
+        return fromBytes(bytes, 0);
+    }
+
+    /**
+     * Reads a history from a byte array written by {@link #toBytes()} and keeps at most the given number of samples.
+     *
+     * @param bytes    the bytes to read.
+     * @param capacity the number of samples to keep, or 0 to keep the stored capacity.
+     * @return the history.
+     * @throws IOException if the bytes are not a valid history.
+     * @see #readFrom(DataInput, int)
+     */
+    public static StatsHistory fromBytes(byte[] bytes, int capacity) throws IOException {
+        return readFrom(new DataInputStream(new ByteArrayInputStream(bytes)), capacity);
+    }
+
+    /**
+     * Drops the oldest samples and re-encodes the new oldest sample with its absolute values.
+     *
+     * @param dropped the number of samples to drop.
+     */
+    private void evict(int dropped) {
+        Decoder decoder = new Decoder();
+        for (int i = 0; i <= dropped; i++) {
+            decoder.next();
+        }
+        byte[] rest = Arrays.copyOfRange(data, decoder.position, size);
+        size = 0;
+        writeVarLong(decoder.time);
+        writeVarLong(decoder.posts);
+        writeVarLong(decoder.subs);
+        writeVarLong(decoder.subbed);
+        ensureCapacity(rest.length);
+        System.arraycopy(rest, 0, data, size, rest.length);
+        size += rest.length;
+        count -= dropped;
+        firstTime = decoder.time;
+        firstPosts = decoder.posts;
+        firstSubs = decoder.subs;
+    }
+
+    /**
+     * Writes a non-negative int as a varint.
+     *
+     * @param buffer the buffer to write to.
+     * @param value  the value to write.
+     */
+    private static void putVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads a non-negative int written by {@link #putVarInt(ByteBuffer, int)}.
+     *
+     * @param buffer the buffer to read from.
+     * @return the value.
+     * @throws IOException if the varint is too long.
+     */
+    private static int getVarInt(ByteBuffer buffer) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte current = buffer.get();
+            value |= (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Invalid stats history");
+    }
+
+    /**
+     * Converts a difference over the whole history into a rate per day.
+     *
+     * @param difference the difference between the newest and the oldest sample.
+     * @return the rate per day, or 0 if the history covers less than a second.
+     */
+    private double perDay(long difference) {
+        long elapsed = lastTime - firstTime;
+        return elapsed <= 0 ? 0 : difference * (double) SECONDS_PER_DAY / elapsed;
+    }
+
+    /**
+     * Adds a rate to an exponential moving average.
+     *
+     * @param average the current average, or {@link Double#NaN} if there is none yet.
+     * @param rate    the new rate.
+     * @return the new average.
+     */
+    private static double smooth(double average, double rate) {
+        return Double.isNaN(average) ? rate : average + SMOOTHING * (rate - average);
+    }
+
+    /**
+     * Grows the byte array if the given number of bytes does not fit.
+     *
+     * @param bytes the number of bytes to write.
+     */
+    private void ensureCapacity(int bytes) {
+        if (size + bytes > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, size + bytes));
+        }
+    }
+
+    /**
+     * Writes a zigzag-encoded varint. Small positive and negative values take a single byte.
+     *
+     * @param value the value to write.
+     */
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            data[size++] = (byte) ((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        data[size++] = (byte) zigzag;
+    }
+
+    /**
+     * Decodes the samples one after the other, from the oldest to the newest.
+     */
+    private final class Decoder {
+
+        private int position = 0;
+        private int decoded = 0;
+        private long time;
+        private int posts;
+        private int subs;
+        private int subbed;
+
+        /**
+         * Decodes the next sample into the fields of this decoder.
+         */
+        private void next() {
+            if (decoded++ == 0) {
+                time = readVarLong();
+                posts = (int) readVarLong();
+                subs = (int) readVarLong();
+                subbed = (int) readVarLong();
+                return;
+            }
+            time += readVarLong();
+            posts += (int) readVarLong();
+            subs += (int) readVarLong();
+            subbed += (int) readVarLong();
+        }
+
+        /**
+         * Reads a zigzag-encoded varint.
+         *
+         * @return the decoded value.
+         */
+        private long readVarLong() {
+            long zigzag = 0;
+            int shift = 0;
+            byte current;
+            do {
+                if (position >= size || shift > 63) {
+                    throw new IllegalStateException("Truncated stats history");
+                }
+                current = data[position++];
+                zigzag |= (long) (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package eu.hobbydev.bracheus.exceptions;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * Thrown by an action that could not reach its goal, e.g. a login with wrong credentials.
+ * <p>
+ * The {@link eu.hobbydev.bracheus.manager.ActionThreadManager} completes the result of the action as failed,
+ * so actions registered to run after it are cancelled instead of running against a broken state.
+ */
+public class SeleniagramActionException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public SeleniagramActionException(String message) {
+        super(message, null, false, false);
+    }
+
+}
@@ -0,0 +1,36 @@
+package eu.hobbydev.bracheus.exceptions;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * Thrown when a wait or a driver call notices that its {@link eu.hobbydev.bracheus.utils.CancellationToken}
+ * was cancelled, e.g. because Seleniagram is shutting down.
+ * <p>
+ * Cancellation is an expected outcome and not a programming error, so this exception
+ * does not capture a stack trace and is cheap to construct.
+ */
+public class SeleniagramCancelledException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public SeleniagramCancelledException(String message) {
+        super(message, null, false, false);
+    }
+
+}
@@ -19,10 +19,16 @@ package eu.hobbydev.bracheus.exceptions;
  * bracheus@hobbydev.eu
  */
 
+/**
+ * Thrown when an element required by an action cannot be found on the page.
+ * <p>
+ * A missing element is an expected outcome and not a programming error, so this exception
+ * does not capture a stack trace and is cheap to construct.
+ */
 public class SeleniagramNoSuchElementException extends RuntimeException {
 
     public SeleniagramNoSuchElementException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
 }
@@ -1,5 +1,10 @@
 package eu.hobbydev.bracheus.interfaces;
 
+import eu.hobbydev.bracheus.classes.ActionResult;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Copyright (C) 2025 Bracheus
  * <p>
@@ -18,7 +23,104 @@ package eu.hobbydev.bracheus.interfaces;
  * bracheus@hobbydev.eu
  */
 public interface Actions {
+
+    /**
+     * Priority of actions that can wait, e.g. refreshing the data of other users.
+     */
+    int LOW_PRIORITY = 0;
+
+    /**
+     * Default priority of actions.
+     */
+    int NORMAL_PRIORITY = 10;
+
+    /**
+     * Priority of actions that other actions depend on, e.g. the login.
+     */
+    int HIGH_PRIORITY = 20;
+
+    /**
+     * Priority of actions that must run before anything else, e.g. stopping Seleniagram.
+     */
+    int CRITICAL_PRIORITY = 30;
+
+    /**
+     * Time an action may take by default before the {@link eu.hobbydev.bracheus.manager.ActionWatchdog} cancels it.
+     */
+    Duration DEFAULT_TIME_BUDGET = Duration.ofMinutes(2);
+
     void handleAction();
 
     String getName();
+
+    /**
+     * Returns the value produced by the last run of this action. It is passed to the caller with the
+     * {@link eu.hobbydev.bracheus.classes.ActionResult} of the action.
+     *
+     * @return the produced value, or {@code null} if the action produces none.
+     */
+    default Object getResult() {
+        return null;
+    }
+
+    /**
+     * Returns the result of the action that finishes the work of the last run of this action. An action that only
+     * registered the actions doing its work, such as a login followed by itself, has not finished yet, so the
+     * caller gets the result of the registered action instead of a success.
+     *
+     * @return the future of the registered action, or {@code null} if the last run finished the work itself.
+     */
+    default CompletableFuture<ActionResult> getDeferredResult() {
+        return null;
+    }
+
+    /**
+     * Returns the priority of this action. Actions with a higher priority are handled first,
+     * actions with the same priority in the order they were registered.
+     *
+     * @return the priority of this action.
+     */
+    default int getPriority() {
+        return NORMAL_PRIORITY;
+    }
+
+    /**
+     * Returns how long this action may wait in the queue. An action that waited longer is dropped
+     * without being handled, because its result is no longer useful.
+     *
+     * @return the maximum time in the queue, or {@code null} if the action never expires.
+     */
+    default Duration getMaxQueueTime() {
+        return null;
+    }
+
+    /**
+     * Returns the key of equivalent actions. While an action with the same key is waiting in the queue,
+     * a newly registered action with this key is merged into the waiting one instead of running twice.
+     *
+     * @return the coalescing key, or {@code null} if this action is never merged.
+     */
+    default String getCoalescingKey() {
+        return null;
+    }
+
+    /**
+     * Returns how long this action may run. An action that takes longer is cancelled and completed as timed out,
+     * so the next action can run.
+     *
+     * @return the time budget, or {@code null} if the action is never cancelled.
+     */
+    default Duration getTimeBudget() {
+        return DEFAULT_TIME_BUDGET;
+    }
+
+    /**
+     * Returns the name of the circuit this action depends on. While the circuit is open, the action is parked
+     * instead of handled, and queued again when the circuit allows a probe.
+     *
+     * @return the circuit key, or {@code null} if the action does not depend on a circuit.
+     */
+    default String getCircuitKey() {
+        return null;
+    }
 }
@@ -1,5 +1,7 @@
 package eu.hobbydev.bracheus.interfaces;
 
+import java.util.List;
+
 /**
  * Copyright (C) 2025 Bracheus
  * <p>
@@ -89,6 +91,468 @@ public interface ConfigurationHolder {
      */
     void setApiKey(String apiKey);
 
+    /**
+     * Retrieves the minimum time in milliseconds between two site interactions.
+     *
+     * @return the site pacing in milliseconds.
+     */
+    long getSitePacing();
+
+    /**
+     * Retrieves the minimum time in milliseconds between two inputs.
+     *
+     * @return the input pacing in milliseconds.
+     */
+    long getInputPacing();
+
+    /**
+     * Retrieves the maximum time in milliseconds to wait for a page to become ready.
+     *
+     * @return the page timeout in milliseconds.
+     */
+    long getPageTimeout();
+
+    /**
+     * Sets the minimum time in milliseconds between two site interactions.
+     *
+     * @param sitePacing the site pacing in milliseconds.
+     */
+    void setSitePacing(long sitePacing);
+
+    /**
+     * Sets the minimum time in milliseconds between two inputs.
+     *
+     * @param inputPacing the input pacing in milliseconds.
+     */
+    void setInputPacing(long inputPacing);
+
+    /**
+     * Sets the maximum time in milliseconds to wait for a page to become ready.
+     *
+     * @param pageTimeout the page timeout in milliseconds.
+     */
+    void setPageTimeout(long pageTimeout);
+
+    /**
+     * Checks whether texts are entered at once instead of character by character.
+     *
+     * @return {@code true} if bulk text entry is enabled.
+     */
+    boolean isBulkTextEntry();
+
+    /**
+     * Sets whether texts are entered at once instead of character by character.
+     *
+     * @param bulkTextEntry {@code true} to enable bulk text entry.
+     */
+    void setBulkTextEntry(boolean bulkTextEntry);
+
+    /**
+     * Retrieves the resource types Chrome does not load, e.g. "image", "media" or "font".
+     *
+     * @return the blocked resource types.
+     */
+    List<String> getBlockedResourceTypes();
+
+    /**
+     * Sets the resource types Chrome does not load.
+     *
+     * @param blockedResourceTypes the blocked resource types.
+     */
+    void setBlockedResourceTypes(List<String> blockedResourceTypes);
+
+    /**
+     * Retrieves the URL patterns Chrome does not load, e.g. third-party analytics.
+     *
+     * @return the blocked URL patterns.
+     */
+    List<String> getBlockedUrls();
+
+    /**
+     * Sets the URL patterns Chrome does not load.
+     *
+     * @param blockedUrls the blocked URL patterns.
+     */
+    void setBlockedUrls(List<String> blockedUrls);
+
+    /**
+     * Retrieves the path of the Chrome executable, empty to let Selenium locate Chrome.
+     *
+     * @return the Chrome executable path.
+     */
+    String getChromeBinary();
+
+    /**
+     * Sets the path of the Chrome executable, empty to let Selenium locate Chrome.
+     *
+     * @param chromeBinary the Chrome executable path.
+     */
+    void setChromeBinary(String chromeBinary);
+
+    /**
+     * Retrieves whether Chrome runs without a window.
+     *
+     * @return {@code true} if Chrome runs headless.
+     */
+    boolean isHeadless();
+
+    /**
+     * Sets whether Chrome runs without a window.
+     *
+     * @param headless {@code true} if Chrome runs headless.
+     */
+    void setHeadless(boolean headless);
+
+    /**
+     * Retrieves whether Chrome runs without GPU acceleration.
+     *
+     * @return {@code true} if the GPU is disabled.
+     */
+    boolean isDisableGpu();
+
+    /**
+     * Sets whether Chrome runs without GPU acceleration.
+     *
+     * @param disableGpu {@code true} if the GPU is disabled.
+     */
+    void setDisableGpu(boolean disableGpu);
+
+    /**
+     * Retrieves whether Chrome runs without extensions.
+     *
+     * @return {@code true} if extensions are disabled.
+     */
+    boolean isDisableExtensions();
+
+    /**
+     * Sets whether Chrome runs without extensions.
+     *
+     * @param disableExtensions {@code true} if extensions are disabled.
+     */
+    void setDisableExtensions(boolean disableExtensions);
+
+    /**
+     * Retrieves the maximum number of renderer processes, 0 for the Chrome default.
+     *
+     * @return the renderer process limit.
+     */
+    int getRendererProcessLimit();
+
+    /**
+     * Sets the maximum number of renderer processes, 0 for the Chrome default.
+     *
+     * @param rendererProcessLimit the renderer process limit.
+     */
+    void setRendererProcessLimit(int rendererProcessLimit);
+
+    /**
+     * Retrieves the maximum V8 heap size in megabytes, 0 for the Chrome default.
+     *
+     * @return the V8 heap size in megabytes.
+     */
+    int getJsHeapSize();
+
+    /**
+     * Sets the maximum V8 heap size in megabytes, 0 for the Chrome default.
+     *
+     * @param jsHeapSize the V8 heap size in megabytes.
+     */
+    void setJsHeapSize(int jsHeapSize);
+
+    /**
+     * Retrieves the directory of the Chrome disk cache, empty for the Chrome default.
+     *
+     * @return the disk cache directory.
+     */
+    String getDiskCacheDir();
+
+    /**
+     * Sets the directory of the Chrome disk cache, empty for the Chrome default.
+     *
+     * @param diskCacheDir the disk cache directory.
+     */
+    void setDiskCacheDir(String diskCacheDir);
+
+    /**
+     * Retrieves the maximum size of the Chrome disk cache in megabytes, 0 for the Chrome default.
+     *
+     * @return the disk cache size in megabytes.
+     */
+    int getDiskCacheSize();
+
+    /**
+     * Sets the maximum size of the Chrome disk cache in megabytes, 0 for the Chrome default.
+     *
+     * @param diskCacheSize the disk cache size in megabytes.
+     */
+    void setDiskCacheSize(int diskCacheSize);
+
+    /**
+     * Retrieves the remote debugging port of Chrome, 0 to allocate a free port.
+     *
+     * @return the remote debugging port.
+     */
+    int getRemoteDebuggingPort();
+
+    /**
+     * Sets the remote debugging port of Chrome, 0 to allocate a free port.
+     *
+     * @param remoteDebuggingPort the remote debugging port.
+     */
+    void setRemoteDebuggingPort(int remoteDebuggingPort);
+
+    /**
+     * Retrieves the Chrome profile directory that keeps the browser session across restarts, relative to the jar directory, empty for a temporary profile.
+     *
+     * @return the Chrome profile directory.
+     */
+    String getUserDataDir();
+
+    /**
+     * Sets the Chrome profile directory that keeps the browser session across restarts, relative to the jar directory, empty for a temporary profile.
+     *
+     * @param userDataDir the Chrome profile directory.
+     */
+    void setUserDataDir(String userDataDir);
+
+    /**
+     * Retrieves whether a second Chrome instance is kept ready to replace a crashed one.
+     *
+     * @return {@code true} if a standby browser is kept ready.
+     */
+    boolean isStandbyDriver();
+
+    /**
+     * Sets whether a second Chrome instance is kept ready to replace a crashed one.
+     *
+     * @param standbyDriver {@code true} if a standby browser is kept ready.
+     */
+    void setStandbyDriver(boolean standbyDriver);
+
+    /**
+     * Retrieves the time in milliseconds between two health checks of the browser session.
+     *
+     * @return the watchdog interval in milliseconds.
+     */
+    long getWatchdogInterval();
+
+    /**
+     * Sets the time in milliseconds between two health checks of the browser session.
+     *
+     * @param watchdogInterval the watchdog interval in milliseconds.
+     */
+    void setWatchdogInterval(long watchdogInterval);
+
+    /**
+     * Retrieves the maximum number of OpenAI requests running at the same time.
+     *
+     * @return the maximum number of concurrent OpenAI requests.
+     */
+    int getOpenAIConcurrency();
+
+    /**
+     * Sets the maximum number of OpenAI requests running at the same time.
+     *
+     * @param openAIConcurrency the maximum number of concurrent OpenAI requests.
+     */
+    void setOpenAIConcurrency(int openAIConcurrency);
+
+    /**
+     * Retrieves the time in milliseconds between two refreshes of the Seleniagram user, 0 disables the refresh.
+     *
+     * @return the refresh interval of the Seleniagram user in milliseconds.
+     */
+    long getSelfRefreshInterval();
+
+    /**
+     * Sets the time in milliseconds between two refreshes of the Seleniagram user, 0 disables the refresh.
+     *
+     * @param selfRefreshInterval the refresh interval of the Seleniagram user in milliseconds.
+     */
+    void setSelfRefreshInterval(long selfRefreshInterval);
+
+    /**
+     * Retrieves the maximum number of actions waiting in the queue.
+     *
+     * @return the capacity of the action queue.
+     */
+    int getActionQueueCapacity();
+
+    /**
+     * Sets the maximum number of actions waiting in the queue.
+     *
+     * @param actionQueueCapacity the capacity of the action queue.
+     */
+    void setActionQueueCapacity(int actionQueueCapacity);
+
+    /**
+     * Retrieves what happens to a new action when the queue is full: BLOCK, REJECT, DROP_OLDEST or COALESCE.
+     *
+     * @return the overflow policy of the action queue.
+     */
+    String getActionQueueOverflow();
+
+    /**
+     * Sets what happens to a new action when the queue is full: BLOCK, REJECT, DROP_OLDEST or COALESCE.
+     *
+     * @param actionQueueOverflow the overflow policy of the action queue.
+     */
+    void setActionQueueOverflow(String actionQueueOverflow);
+
+    /**
+     * Retrieves how long a graceful shutdown waits for the running action and listener checkup to finish, in milliseconds. Afterwards they are cancelled.
+     *
+     * @return the drain timeout in milliseconds.
+     */
+    long getShutdownDrainTimeout();
+
+    /**
+     * Sets how long a graceful shutdown waits for the running action and listener checkup to finish, in milliseconds. Afterwards they are cancelled.
+     *
+     * @param shutdownDrainTimeout the drain timeout in milliseconds.
+     */
+    void setShutdownDrainTimeout(long shutdownDrainTimeout);
+
+    /**
+     * Retrieves how long the browser waits for a page to load before the navigation fails, in milliseconds.
+     *
+     * @return the page load timeout in milliseconds.
+     */
+    long getPageLoadTimeout();
+
+    /**
+     * Sets how long the browser waits for a page to load before the navigation fails, in milliseconds.
+     *
+     * @param pageLoadTimeout the page load timeout in milliseconds.
+     */
+    void setPageLoadTimeout(long pageLoadTimeout);
+
+    /**
+     * Retrieves how long the browser waits for an asynchronous page script before it fails, in milliseconds.
+     *
+     * @return the script timeout in milliseconds.
+     */
+    long getScriptTimeout();
+
+    /**
+     * Sets how long the browser waits for an asynchronous page script before it fails, in milliseconds.
+     *
+     * @param scriptTimeout the script timeout in milliseconds.
+     */
+    void setScriptTimeout(long scriptTimeout);
+
+    /**
+     * Retrieves the number of consecutive failures of a step, e.g. a missing locator, after which its circuit opens.
+     *
+     * @return the failure threshold.
+     */
+    int getCircuitFailureThreshold();
+
+    /**
+     * Sets the number of consecutive failures of a step, e.g. a missing locator, after which its circuit opens.
+     *
+     * @param circuitFailureThreshold the failure threshold.
+     */
+    void setCircuitFailureThreshold(int circuitFailureThreshold);
+
+    /**
+     * Retrieves the delay before the first retry of a failed step in milliseconds. The delay doubles with every further failure.
+     *
+     * @return the base retry delay in milliseconds.
+     */
+    long getRetryBaseDelay();
+
+    /**
+     * Sets the delay before the first retry of a failed step in milliseconds. The delay doubles with every further failure.
+     *
+     * @param retryBaseDelay the base retry delay in milliseconds.
+     */
+    void setRetryBaseDelay(long retryBaseDelay);
+
+    /**
+     * Retrieves how long an open circuit refuses a failing step the first time, in milliseconds.
+     *
+     * @return the open time in milliseconds.
+     */
+    long getCircuitOpenTime();
+
+    /**
+     * Sets how long an open circuit refuses a failing step the first time, in milliseconds.
+     *
+     * @param circuitOpenTime the open time in milliseconds.
+     */
+    void setCircuitOpenTime(long circuitOpenTime);
+
+    /**
+     * Retrieves the longest time an open circuit refuses a failing step, in milliseconds.
+     *
+     * @return the maximum open time in milliseconds.
+     */
+    long getCircuitMaxOpenTime();
+
+    /**
+     * Sets the longest time an open circuit refuses a failing step, in milliseconds.
+     *
+     * @param circuitMaxOpenTime the maximum open time in milliseconds.
+     */
+    void setCircuitMaxOpenTime(long circuitMaxOpenTime);
+
+    /**
+     * Retrieves whether the known and followed users are stored in the user log and snapshot next to the jar, so they survive a restart.
+     *
+     * @return true if the users are stored.
+     */
+    boolean isUserStore();
+
+    /**
+     * Sets whether the known and followed users are stored in the user log and snapshot next to the jar, so they survive a restart.
+     *
+     * @param userStore true if the users are stored.
+     */
+    void setUserStore(boolean userStore);
+
+    /**
+     * Retrieves the size in bytes of the user log after which it is compacted into a new snapshot.
+     *
+     * @return the compaction size in bytes.
+     */
+    long getUserStoreCompactionSize();
+
+    /**
+     * Sets the size in bytes of the user log after which it is compacted into a new snapshot.
+     *
+     * @param userStoreCompactionSize the compaction size in bytes.
+     */
+    void setUserStoreCompactionSize(long userStoreCompactionSize);
+
+    /**
+     * Retrieves the number of samples of the profile counters kept per user in the stats history.
+     *
+     * @return the number of samples per user.
+     */
+    int getStatsHistorySize();
+
+    /**
+     * Sets the number of samples of the profile counters kept per user in the stats history.
+     *
+     * @param statsHistorySize the number of samples per user.
+     */
+    void setStatsHistorySize(int statsHistorySize);
+
+    /**
+     * Retrieves whether the known users are kept in primitive arrays instead of one object per user, which needs a fraction of the heap for very large sets of tracked users.
+     *
+     * @return true if the known users are kept in a compact storage.
+     */
+    boolean isCompactUserStorage();
+
+    /**
+     * Sets whether the known users are kept in primitive arrays instead of one object per user, which needs a fraction of the heap for very large sets of tracked users.
+     *
+     * @param compactUserStorage true if the known users are kept in a compact storage.
+     */
+    void setCompactUserStorage(boolean compactUserStorage);
+
     /**
      * Returns a string representation of the configuration object, typically
      * containing the current settings such as the username, password, language,
@@ -1,5 +1,7 @@
 package eu.hobbydev.bracheus.interfaces;
 
+import java.time.Duration;
+
 /**
  * Copyright (C) 2025 Bracheus
  * <p>
@@ -18,7 +20,40 @@ package eu.hobbydev.bracheus.interfaces;
  * bracheus@hobbydev.eu
  */
 public interface Listener {
-    void runCheckup();
+
+    /**
+     * Runs a single checkup of this listener.
+     *
+     * @return {@code true} if the checkup found activity, e.g. unread messages, otherwise {@code false}.
+     */
+    boolean runCheckup();
 
     String getName();
+
+    /**
+     * Returns the shortest time between two checkups, used while the listener finds activity.
+     *
+     * @return the minimum interval.
+     */
+    default Duration getMinInterval() {
+        return Duration.ofSeconds(30);
+    }
+
+    /**
+     * Returns the longest time between two checkups, reached after a series of idle checkups.
+     *
+     * @return the maximum interval.
+     */
+    default Duration getMaxInterval() {
+        return Duration.ofMinutes(5);
+    }
+
+    /**
+     * Returns how long a single checkup may run before it is cancelled.
+     *
+     * @return the time budget, or {@code null} if the checkup is never cancelled.
+     */
+    default Duration getTimeBudget() {
+        return Duration.ofMinutes(5);
+    }
 }
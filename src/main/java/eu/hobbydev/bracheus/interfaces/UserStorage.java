@@ -0,0 +1,150 @@
+package eu.hobbydev.bracheus.interfaces;
+
+
+import eu.hobbydev.bracheus.classes.InstaUser;
+import eu.hobbydev.bracheus.classes.StatsHistory;
+
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * This interface defines how the {@link eu.hobbydev.bracheus.manager.UserManager} stores the known Instagram users
+ * and their follow status.
+ * <p>
+ * The stored users are published {@link InstaUser} snapshots: an implementation either keeps the snapshots as they are,
+ * or keeps only their values and creates an equal snapshot when a user is read. Every update goes through
+ * {@link #compute(String, BiFunction)}, which is atomic per username. A user that is not known is never followed.
+ * The {@link StatsHistory} of a known user is kept with the user and removed together with it.
+ * </p>
+ */
+public interface UserStorage {
+
+    /**
+     * Retrieves the snapshot of a known user.
+     *
+     * @param username the username of the user.
+     * @return the published snapshot, or {@code null} if the user is not known.
+     */
+    InstaUser get(String username);
+
+    /**
+     * Retrieves a read-only view of a known user. Reading through the view does not copy the user.
+     *
+     * @param username the username of the user.
+     * @return the view, or {@code null} if the user is not known.
+     */
+    User view(String username);
+
+    /**
+     * Atomically computes the new snapshot of a user. The function receives the current snapshot, or {@code null},
+     * and returns the new published snapshot, the current snapshot to keep it, or {@code null} to remove the user.
+     * Removing a user also clears its follow status.
+     *
+     * @param username  the username of the user.
+     * @param remapping the function computing the new snapshot.
+     * @return the stored snapshot, or {@code null} if the user is not known afterwards.
+     */
+    InstaUser compute(String username, BiFunction<String, InstaUser, InstaUser> remapping);
+
+    /**
+     * Checks whether a user is known.
+     *
+     * @param username the username of the user.
+     * @return {@code true} if the user is known.
+     */
+    boolean contains(String username);
+
+    /**
+     * Checks whether a user is followed.
+     *
+     * @param username the username of the user.
+     * @return {@code true} if the user is known and followed.
+     */
+    boolean isFollowed(String username);
+
+    /**
+     * Sets the follow status of a known user.
+     *
+     * @param username the username of the user.
+     * @param followed the new follow status.
+     * @return {@code true} if the follow status changed, {@code false} if it was already set or the user is not known.
+     */
+    boolean setFollowed(String username, boolean followed);
+
+    /**
+     * Retrieves the stats history of a known user. A storage that keeps the histories encoded returns a decoded copy,
+     * so samples are only added with {@link #updateStatsHistory(String, UnaryOperator)}.
+     *
+     * @param username the username of the user.
+     * @return the history, or {@code null} if the user is not known or has no history yet.
+     */
+    StatsHistory getStatsHistory(String username);
+
+    /**
+     * Atomically updates the stats history of a known user. The function receives the current history, or
+     * {@code null}, and returns the new history; it is not called if the user is not known.
+     *
+     * @param username the username of the user.
+     * @param update   the function updating the history, e.g. adding a sample.
+     * @return the new history, or {@code null} if the user is not known.
+     */
+    StatsHistory updateStatsHistory(String username, UnaryOperator<StatsHistory> update);
+
+    /**
+     * Calls the given action for the stats history of every known user that has one.
+     *
+     * @param action the action receiving the username and the history.
+     */
+    void forEachStatsHistory(BiConsumer<String, StatsHistory> action);
+
+    /**
+     * Returns all known users.
+     *
+     * @return an unmodifiable, weakly consistent view of the snapshots of the known users.
+     */
+    Collection<InstaUser> values();
+
+    /**
+     * Returns the number of known users.
+     *
+     * @return the number of known users.
+     */
+    int size();
+
+    /**
+     * Returns the number of followed users.
+     *
+     * @return the number of followed users.
+     */
+    int followedCount();
+
+    /**
+     * Runs the given task while no user can be changed, e.g. to write a consistent snapshot of all users.
+     * Reads are still possible. A change records itself in the {@link eu.hobbydev.bracheus.manager.UserStore} before
+     * it becomes visible, so every implementation must wait for running changes and block new ones; otherwise a
+     * snapshot could miss a change whose record is dropped with the old log.
+     *
+     * @param task the task to run.
+     */
+    void blockingWrites(Runnable task);
+}
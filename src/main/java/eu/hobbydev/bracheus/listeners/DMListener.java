@@ -11,10 +11,15 @@ import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Copyright (C) 2025 Bracheus
@@ -51,66 +56,105 @@ public class DMListener implements Listener, HumanizerTools {
 
     private static final Logger logger = LoggerFactory.getLogger(DMListener.class);
 
+    // Bounds of the checkup interval.
+    private static final Duration MIN_INTERVAL = Duration.ofSeconds(15);
+    private static final Duration MAX_INTERVAL = Duration.ofMinutes(5);
+    // Maximum time to wait for the next generated answer.
+    private static final Duration REPLY_TIMEOUT = Duration.ofMinutes(2);
+    // Maximum time of a checkup, which answers every unread chat.
+    private static final Duration TIME_BUDGET = Duration.ofMinutes(10);
+
     private Map<String, List<String>> blacklist = new HashMap<>();
 
     /**
      * Runs the periodic checkup to verify new messages and respond accordingly.
      * This method performs checks for unread messages and, if any are found, triggers the `answerMessages()` method.
+     *
+     * @return {@code true} if unread messages were found, so the next checkup follows soon.
      */
     @Override
-    public void runCheckup() {
+    public boolean runCheckup() {
         siteDelay(); // Introduces delay between site actions
         int messages = checkMessageCount(); // Fetches count of unread messages
         if (messages > 0) {
             answerMessages(); // Answers unread messages
+            return true;
         }
+        return false;
     }
 
     /**
      * Opens Instagram's Direct Message page and processes unread chats by clicking and reading them.
-     * For each unread chat, a response is generated and sent.
+     * <p>
+     * The replies are requested for all unread chats first, so the OpenAI requests run concurrently while the browser
+     * reads the next chat. Each reply is typed into its chat as soon as it arrives.
      */
     private void answerMessages() {
         getSeleniumManager().open("https://www.instagram.com/direct/inbox/");
         siteDelay();
         List<WebElement> chats = getSeleniumManager().findElementsByCss("div[role='button']");
 
+        BlockingQueue<PendingReply> replies = new LinkedBlockingQueue<>();
+        int requested = 0;
         for (WebElement chat : chats) {
-            WebElement unreadBadge = null;
-            try {
-                unreadBadge = getSeleniumManager().findByXpath(".//div[contains(text(), '" + getLanguageHolder().getUnreadMessage() + "')]");
-            } catch (SeleniagramNoSuchElementException e) {
+            // The parent of the unread badge is the clickable chat entry.
+            Optional<WebElement> unreadBadge = getSeleniumManager().probeByXpath(chat, ".//div[contains(text(), '" + getLanguageHolder().getUnreadMessage() + "')]/..");
+            if (unreadBadge.isEmpty()) {
                 logger.info("This chat isn't marked as unread!");
+                continue;
             }
 
-            if (unreadBadge != null) {
-                unreadBadge = (WebElement) getSeleniumManager().getJavaScJavascriptExecutor().executeScript("return arguments[0].parentNode;", unreadBadge);
-                unreadBadge.click();
-                logger.info("Open unread chat!");
-                siteDelay();
+            unreadBadge.get().click();
+            logger.info("Open unread chat!");
+            siteDelay();
 
-                try {
-                    writeMessage(); // Writes and sends a response
-                } catch (SeleniagramNoSuchElementException e) {
-                    logger.error("Error writing message: " + e);
+            try {
+                if (requestReply(replies)) {
+                    requested++;
                 }
+            } catch (SeleniagramNoSuchElementException e) {
+                logger.error("Error reading messages: " + e);
+            }
+        }
+
+        for (int i = 0; i < requested; i++) {
+            PendingReply reply;
+            try {
+                reply = replies.poll(REPLY_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (reply == null) {
+                logger.error("{} answers did not arrive in time!", requested - i);
+                break;
+            }
+            try {
+                writeMessage(reply); // Writes and sends a response
+            } catch (SeleniagramNoSuchElementException e) {
+                logger.error("Error writing message: " + e);
             }
         }
+
+        getSeleniumManager().open("https://instagram.com/"); // Navigate back to Instagram home page
+        siteDelay();
     }
 
     /**
-     * Retrieves the last 3 messages from the current chat, processes them, and sends a generated response.
-     * If the user is blacklisted, their messages will be skipped.
-     * The response is typed character by character in a human-like manner.
+     * Reads the last 3 messages of the opened chat and requests a reply for them.
+     * If the user is blacklisted, their already answered messages are skipped. The reply is added to the given queue
+     * once it arrives.
      *
-     * @throws SeleniagramNoSuchElementException if any required elements are not found while interacting with the page.
+     * @param replies the queue receiving the reply.
+     * @return {@code true} if a reply was requested, {@code false} if there was nothing new to answer.
+     * @throws SeleniagramNoSuchElementException if the conversation header is not found.
      */
-    private void writeMessage() throws SeleniagramNoSuchElementException {
-        getSeleniumManager().reloadPage();
-        siteDelay();
-        WebElement chatElement = getSeleniumManager().findByXpath("//div[contains(@aria-label, '" + getLanguageHolder().getConversationWithAria() + "')]");
+    private boolean requestReply(BlockingQueue<PendingReply> replies) throws SeleniagramNoSuchElementException {
+        String conversationXpath = "//div[contains(@aria-label, '" + getLanguageHolder().getConversationWithAria() + "')]";
+        WebElement chatElement = getSeleniumManager().probeByXpath(conversationXpath)
+                .orElseThrow(() -> new SeleniagramNoSuchElementException("Can't find XPath: " + conversationXpath));
         String conversationWith = chatElement.getAttribute("aria-label").replace(getLanguageHolder().getConversationWithAria() + " ", "");
-        logger.info("You are writing with {}.", conversationWith);
+        logger.info("You are reading the chat with {}.", conversationWith);
 
         List<WebElement> messages = getSeleniumManager().findElementsByCss(".html-div.xexx8yu.x4uap5.x18d9i69.xkhd6sd.x1gslohp.x11i5rnm.x12nagc.x1mh8g0r.x1yc453h.x126k92a.x18lvrbx");
         List<String> chat = new ArrayList<>();
@@ -126,22 +170,43 @@ public class DMListener implements Listener, HumanizerTools {
         }
 
         handleBlacklist(chat, conversationWith); // Avoid answering blacklisted users
-        String response = Seleniagram.openAIManager.answerMessages(chat); // Get AI-generated response
+        if (chat.isEmpty()) {
+            logger.info("No new messages from {}.", conversationWith);
+            return false;
+        }
+        String url = getSeleniumManager().getUrl();
+        Seleniagram.openAIManager.answerMessagesAsync(chat) // Get AI-generated response
+                .whenComplete((response, throwable) -> replies.add(new PendingReply(conversationWith, url, response, throwable)));
+        return true;
+    }
+
+    /**
+     * Opens the chat of the given reply and sends the generated response.
+     * The response is entered with the configured text entry mode.
+     *
+     * @param reply the generated reply and the chat it belongs to.
+     * @throws SeleniagramNoSuchElementException if any required elements are not found while interacting with the page.
+     */
+    private void writeMessage(PendingReply reply) throws SeleniagramNoSuchElementException {
+        if (reply.failure() != null) {
+            logger.error("Can't generate an answer for {}: {}", reply.conversationWith(), reply.failure().getMessage());
+            return;
+        }
+        getSeleniumManager().open(reply.url());
+        siteDelay();
+        logger.info("You are writing with {}.", reply.conversationWith());
 
-        WebElement input = getSeleniumManager().findByXpath("//div[@aria-placeholder='" + getLanguageHolder().getMessagePlaceholder() + "']");
+        String inputXpath = "//div[@aria-placeholder='" + getLanguageHolder().getMessagePlaceholder() + "']";
+        WebElement input = getSeleniumManager().probeByXpath(inputXpath)
+                .orElseThrow(() -> new SeleniagramNoSuchElementException("Can't find XPath: " + inputXpath));
         input.click();
         inputDelay();
 
-        for (char c : response.toCharArray()) {
-            input.sendKeys(String.valueOf(c)); // Simulate typing message
-        }
+        typeText(input, reply.response()); // Enter the message
 
         WebElement send = getSeleniumManager().findDivByText(getLanguageHolder().getSendText());
         send.click(); // Send the message
         siteDelay();
-
-        getSeleniumManager().open("https://instagram.com/"); // Navigate back to Instagram home page
-        siteDelay();
     }
 
     /**
@@ -176,9 +241,17 @@ public class DMListener implements Listener, HumanizerTools {
             getSeleniumManager().open("https://instagram.com/");
             siteDelay();
         }
-        WebElement directMessageLink = getSeleniumManager().findByXpath("//a[contains(@aria-label, '" + getLanguageHolder().getDirectMessagingAria() + "')]");
-        String ariaLabelText = directMessageLink.getAttribute("aria-label");
+        Optional<WebElement> directMessageLink = getSeleniumManager().probeByXpath("//a[contains(@aria-label, '" + getLanguageHolder().getDirectMessagingAria() + "')]");
+        if (directMessageLink.isEmpty()) {
+            logger.info("Can't find the direct messaging link!");
+            return 0;
+        }
+        String ariaLabelText = directMessageLink.get().getAttribute("aria-label");
         String messageCount = ariaLabelText.replaceAll("\\D+", "");
+        if (messageCount.isEmpty()) {
+            logger.info("You have no new Messages!");
+            return 0;
+        }
         logger.info("You have {} new Messages!", messageCount);
         return Integer.parseInt(messageCount);
     }
@@ -193,6 +266,36 @@ public class DMListener implements Listener, HumanizerTools {
         return "DMListener";
     }
 
+    /**
+     * Returns the shortest time between two checkups. While conversations are active, replies follow quickly.
+     *
+     * @return 15 seconds.
+     */
+    @Override
+    public Duration getMinInterval() {
+        return MIN_INTERVAL;
+    }
+
+    /**
+     * Returns the longest time between two checkups. Idle periods, e.g. at night, need only a few page loads.
+     *
+     * @return 5 minutes.
+     */
+    @Override
+    public Duration getMaxInterval() {
+        return MAX_INTERVAL;
+    }
+
+    /**
+     * Returns how long a checkup may run. A checkup answers every unread chat, so it may take several replies long.
+     *
+     * @return 10 minutes.
+     */
+    @Override
+    public Duration getTimeBudget() {
+        return TIME_BUDGET;
+    }
+
     /**
      * Gets the SeleniumManager instance used for interacting with the Instagram website.
      *
@@ -210,4 +313,15 @@ public class DMListener implements Listener, HumanizerTools {
     private LanguageHolder getLanguageHolder() {
         return Seleniagram.languageHolder;
     }
+
+    /**
+     * A generated answer together with the chat it belongs to.
+     *
+     * @param conversationWith the name of the chat partner.
+     * @param url              the URL of the chat.
+     * @param response         the generated answer, or {@code null} if the request failed.
+     * @param failure          the reason the request failed, or {@code null} if it succeeded.
+     */
+    private record PendingReply(String conversationWith, String url, String response, Throwable failure) {
+    }
 }
\ No newline at end of file
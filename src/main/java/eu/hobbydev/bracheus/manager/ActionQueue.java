@@ -0,0 +1,440 @@
+package eu.hobbydev.bracheus.manager;
+
+
+import eu.hobbydev.bracheus.classes.ActionResult;
+import eu.hobbydev.bracheus.interfaces.Actions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The ActionQueue class holds the actions waiting for the {@link ActionThreadManager}.
+ * <p>
+ * Actions are taken by priority, and actions with the same priority in the order they were registered.
+ * An action that waited longer than its {@link Actions#getMaxQueueTime()} is dropped when it is taken.
+ * While an action with a {@link Actions#getCoalescingKey()} is waiting, a newly registered action with the same key
+ * is merged into it: the waiting action keeps its place, takes over the higher priority and the earlier deadline,
+ * and the duplicate is never handled. The caller of the duplicate receives the result of the waiting action.
+ * </p>
+ *
+ * <p>The queue is bounded. When it is full, the {@link OverflowPolicy} decides what happens to a new action.
+ * Critical actions, retries and actions running right after their prerequisite are always accepted, so stopping
+ * Seleniagram and chains of actions never get stuck behind a full queue.</p>
+ *
+ * <p>All methods are thread-safe. {@link #take()} blocks until an action is available.</p>
+ */
+public class ActionQueue {
+
+    // Retries jump ahead of every priority.
+    private static final int RETRY_PRIORITY = Integer.MAX_VALUE;
+
+    private final Logger logger = LoggerFactory.getLogger(ActionQueue.class);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final PriorityQueue<QueuedAction> queue = new PriorityQueue<>(
+            Comparator.comparingInt(QueuedAction::priority).reversed().thenComparingLong(QueuedAction::sequence));
+    private final Map<String, QueuedAction> pending = new HashMap<>();
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private Thread consumer;
+    private boolean closed = false;
+    private long sequence = 0;
+    private long coalesced = 0;
+    private long expired = 0;
+    private long rejected = 0;
+
+    /**
+     * The ways a full queue handles a new action.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The registering thread waits until there is space. The action thread itself never waits,
+         * its actions are accepted beyond the capacity.
+         */
+        BLOCK,
+        /**
+         * The new action is rejected.
+         */
+        REJECT,
+        /**
+         * The oldest action with the lowest priority is rejected to make space, unless it has a higher priority than
+         * the new action, in which case the new action is rejected.
+         */
+        DROP_OLDEST,
+        /**
+         * The new action is merged into a waiting action with the same name, so the caller receives the result of
+         * the waiting action. If there is none, the new action is rejected.
+         */
+        COALESCE
+    }
+
+    /**
+     * Constructs a bounded queue.
+     *
+     * @param capacity       the maximum number of waiting actions.
+     * @param overflowPolicy what happens to a new action when the queue is full.
+     */
+    public ActionQueue(int capacity, OverflowPolicy overflowPolicy) {
+        this.capacity = Math.max(1, capacity);
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Adds an action to the queue, or merges it into a waiting action with the same coalescing key.
+     * If the queue is full, the {@link OverflowPolicy} is applied.
+     *
+     * @param action the action to add.
+     * @return a future completed with the result of the action, or of the waiting action it was merged into.
+     * A rejected action is completed as {@link ActionResult.Status#REJECTED} immediately.
+     */
+    public CompletableFuture<ActionResult> offer(Actions action) {
+        return offer(action, action.getPriority(), new CompletableFuture<>(), action.getPriority() < Actions.CRITICAL_PRIORITY);
+    }
+
+    /**
+     * Adds an action to the head of the queue, ahead of every waiting action regardless of its priority.
+     * This is used to retry an action that was interrupted and to run an action right after its prerequisite.
+     *
+     * @param action the action to add.
+     * @param result the future to complete with the result of the action.
+     */
+    public void offerFirst(Actions action, CompletableFuture<ActionResult> result) {
+        offer(action, RETRY_PRIORITY, result, false);
+    }
+
+    /**
+     * Waits for the next action and removes it from the queue. Expired actions are dropped and their result is
+     * completed as {@link ActionResult.Status#EXPIRED}.
+     *
+     * @return the next action to handle together with the future of its result, or {@code null} if the queue was closed.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public QueuedAction take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            consumer = Thread.currentThread();
+            while (true) {
+                while (queue.isEmpty() && !closed) {
+                    notEmpty.await();
+                }
+                if (closed) {
+                    return null;
+                }
+                QueuedAction next = queue.poll();
+                notFull.signal();
+                String key = next.action().getCoalescingKey();
+                if (key != null) {
+                    pending.remove(key, next);
+                }
+                if (next.deadline() != 0 && System.nanoTime() - next.deadline() > 0) {
+                    expired++;
+                    logger.warn("Dropping action {}, it waited {} ms.", next.action().getName(),
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - next.enqueued()));
+                    next.result().complete(ActionResult.expired(next.action().getName()));
+                    continue;
+                }
+                return next;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the queue. A waiting {@link #take()} returns {@code null}, and actions registered afterwards are
+     * cancelled right away.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all waiting actions from the queue.
+     *
+     * @return the removed actions together with the futures of their results.
+     */
+    public List<QueuedAction> drain() {
+        lock.lock();
+        try {
+            List<QueuedAction> drained = new ArrayList<>(queue);
+            queue.clear();
+            pending.clear();
+            notFull.signalAll();
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of waiting actions.
+     *
+     * @return the number of waiting actions.
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of actions that were merged into a waiting action.
+     *
+     * @return the number of merged actions.
+     */
+    public long getCoalescedCount() {
+        lock.lock();
+        try {
+            return coalesced;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of actions that were rejected because the queue was full.
+     *
+     * @return the number of rejected actions.
+     */
+    public long getRejectedCount() {
+        lock.lock();
+        try {
+            return rejected;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the maximum number of waiting actions.
+     *
+     * @return the capacity of the queue.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of actions that were dropped because they waited too long.
+     *
+     * @return the number of expired actions.
+     */
+    public long getExpiredCount() {
+        lock.lock();
+        try {
+            return expired;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds an action with the given priority, or merges it into a waiting action with the same coalescing key.
+     *
+     * @param action   the action to add.
+     * @param priority the priority to queue the action with.
+     * @param result   the future to complete with the result of the action.
+     * @param bounded  whether the capacity of the queue applies to the action.
+     * @return the future completed with the result of the action, or of the waiting action it was merged into.
+     */
+    private CompletableFuture<ActionResult> offer(Actions action, int priority, CompletableFuture<ActionResult> result,
+                                                  boolean bounded) {
+        long now = System.nanoTime();
+        long deadline = getDeadline(action, now);
+        String key = action.getCoalescingKey();
+        lock.lock();
+        try {
+            if (closed) {
+                result.complete(ActionResult.cancelled(action.getName()));
+                return result;
+            }
+            QueuedAction waiting = key == null ? null : pending.get(key);
+            if (waiting != null) {
+                coalesced++;
+                QueuedAction merged = new QueuedAction(waiting.action(), waiting.result(), Math.max(waiting.priority(), priority),
+                        waiting.sequence(), waiting.enqueued(), earliest(waiting.deadline(), deadline));
+                if (!merged.equals(waiting)) {
+                    queue.remove(waiting);
+                    queue.add(merged);
+                    pending.put(key, merged);
+                }
+                logger.info("Merged action {} into waiting action with key {}.", action.getName(), key);
+                waiting.result().whenComplete((actionResult, throwable) -> result.complete(actionResult));
+                return waiting.result();
+            }
+            if (bounded && queue.size() >= capacity && !makeSpace(action, priority, result)) {
+                return result;
+            }
+            QueuedAction queued = new QueuedAction(action, result, priority, sequence++, now, deadline);
+            queue.add(queued);
+            if (key != null) {
+                pending.put(key, queued);
+            }
+            notEmpty.signal();
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Applies the {@link OverflowPolicy} to a new action while the queue is full. Must be called with the lock held.
+     *
+     * @param action   the new action.
+     * @param priority the priority of the new action.
+     * @param result   the future of the new action.
+     * @return {@code true} if the new action may be added, {@code false} if it was rejected or merged.
+     */
+    private boolean makeSpace(Actions action, int priority, CompletableFuture<ActionResult> result) {
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                if (Thread.currentThread() == consumer) {
+                    return true;
+                }
+                try {
+                    while (queue.size() >= capacity && !closed) {
+                        notFull.await();
+                    }
+                    if (closed) {
+                        result.complete(ActionResult.cancelled(action.getName()));
+                        return false;
+                    }
+                    return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            case DROP_OLDEST -> {
+                QueuedAction victim = null;
+                for (QueuedAction waiting : queue) {
+                    if (victim == null || waiting.priority() < victim.priority()
+                            || waiting.priority() == victim.priority() && waiting.sequence() < victim.sequence()) {
+                        victim = waiting;
+                    }
+                }
+                if (victim != null && victim.priority() <= priority) {
+                    queue.remove(victim);
+                    String key = victim.action().getCoalescingKey();
+                    if (key != null) {
+                        pending.remove(key, victim);
+                    }
+                    reject(victim.action(), victim.result());
+                    return true;
+                }
+            }
+            case COALESCE -> {
+                for (QueuedAction waiting : queue) {
+                    if (waiting.action().getName().equals(action.getName())) {
+                        coalesced++;
+                        logger.info("Queue is full. Merged action {} into a waiting action of the same name.", action.getName());
+                        waiting.result().whenComplete((actionResult, throwable) -> result.complete(actionResult));
+                        return false;
+                    }
+                }
+            }
+            case REJECT -> {
+            }
+        }
+        reject(action, result);
+        return false;
+    }
+
+    /**
+     * Rejects an action because the queue is full. Must be called with the lock held.
+     *
+     * @param action the rejected action.
+     * @param result the future of the rejected action.
+     */
+    private void reject(Actions action, CompletableFuture<ActionResult> result) {
+        rejected++;
+        logger.warn("Queue is full ({} actions). Rejecting action {}.", capacity, action.getName());
+        result.complete(ActionResult.rejected(action.getName()));
+    }
+
+    /**
+     * Computes the deadline of an action from its maximum queue time.
+     *
+     * @param action the action.
+     * @param now    the current {@link System#nanoTime()}.
+     * @return the deadline in {@link System#nanoTime()} units, or 0 if the action never expires.
+     */
+    private static long getDeadline(Actions action, long now) {
+        Duration maxQueueTime = action.getMaxQueueTime();
+        if (maxQueueTime == null) {
+            return 0;
+        }
+        long deadline = now + maxQueueTime.toNanos();
+        return deadline == 0 ? 1 : deadline;
+    }
+
+    /**
+     * Returns the earlier of two deadlines, where 0 means no deadline.
+     *
+     * @param first  the first deadline.
+     * @param second the second deadline.
+     * @return the earlier deadline, or 0 if neither has one.
+     */
+    private static long earliest(long first, long second) {
+        if (first == 0) {
+            return second;
+        }
+        if (second == 0) {
+            return first;
+        }
+        return first - second < 0 ? first : second;
+    }
+
+    /**
+     * An action waiting in the queue together with the future of its result and its scheduling data.
+     *
+     * @param action   the waiting action.
+     * @param result   the future to complete with the result of the action.
+     * @param priority the priority the action is queued with.
+     * @param sequence the registration order, used to keep actions with the same priority in order.
+     * @param enqueued the {@link System#nanoTime()} when the action was registered.
+     * @param deadline the {@link System#nanoTime()} after which the action is dropped, or 0 if it never expires.
+     */
+    public record QueuedAction(Actions action, CompletableFuture<ActionResult> result, int priority, long sequence,
+                               long enqueued, long deadline) {
+    }
+}
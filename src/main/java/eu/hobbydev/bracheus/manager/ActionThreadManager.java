@@ -1,11 +1,19 @@
 package eu.hobbydev.bracheus.manager;
 
+import eu.hobbydev.bracheus.actions.LoginAction;
+import eu.hobbydev.bracheus.classes.ActionResult;
+import eu.hobbydev.bracheus.exceptions.SeleniagramCancelledException;
 import eu.hobbydev.bracheus.interfaces.Actions;
+import eu.hobbydev.bracheus.utils.CancellationToken;
+import org.openqa.selenium.WebDriverException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Copyright (C) 2025 Bracheus
@@ -36,60 +44,351 @@ import java.util.concurrent.LinkedBlockingQueue;
 public class ActionThreadManager extends Thread {
 
     private Logger logger = LoggerFactory.getLogger(ActionThreadManager.class);
-    private final BlockingQueue<Actions> actions = new LinkedBlockingQueue<>();
-    private boolean running = true;
+    // Number of handled actions between two statistics reports.
+    private static final int REPORT_INTERVAL = 100;
+    // Shortest time an action is parked, so a half-open circuit is not polled in a tight loop.
+    private static final Duration MIN_PARK_TIME = Duration.ofSeconds(1);
+    // Number of times an action is retried after it lost the browser session.
+    private static final int MAX_RECOVERY_RETRIES = 1;
+
+    private final ActionQueue actions;
+    private volatile boolean running = true;
     private SeleniumManager seleniumManager;
+    private final ActionWatchdog actionWatchdog;
+    private final CircuitBreakerManager circuitBreakerManager;
+    private Actions recoveredAction;
+    private int recoveryRetries = 0;
+    private long handled = 0;
+    private long parked = 0;
+    private final Map<String, LatencyHistogram> queueTimes = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> executionTimes = new ConcurrentHashMap<>();
+    private final LatencyHistogram busyTime = new LatencyHistogram();
+    private final long startTime = System.nanoTime();
 
     /**
      * Constructs a new ActionThreadManager with the given SeleniumManager.
      *
      * @param seleniumManager the SeleniumManager instance that will be used to handle actions.
+     * @param capacity        the maximum number of waiting actions.
+     * @param overflowPolicy  what happens to a new action when the queue is full.
+     * @param actionWatchdog  the watchdog that enforces the time budget of the actions.
+     * @param circuitBreakerManager the circuits that park actions depending on a failing step.
      */
-    public ActionThreadManager(SeleniumManager seleniumManager) {
+    public ActionThreadManager(SeleniumManager seleniumManager, int capacity, ActionQueue.OverflowPolicy overflowPolicy,
+                               ActionWatchdog actionWatchdog, CircuitBreakerManager circuitBreakerManager) {
         this.seleniumManager = seleniumManager;
+        this.actionWatchdog = actionWatchdog;
+        this.circuitBreakerManager = circuitBreakerManager;
+        this.actions = new ActionQueue(capacity, overflowPolicy);
     }
 
     /**
      * Runs the thread that continuously processes actions from the action queue.
-     * Each action is handled by calling its {@link Actions#handleAction()} method.
-     * The thread continues to run until the stopThread method is called.
+     * Each action is handled by calling its {@link Actions#handleAction()} method, and the future returned on its
+     * registration is completed with the {@link ActionResult}.
+     * If an action fails because the browser session died, the session is recovered and the action is retried once.
+     * Every action runs with its own {@link CancellationToken}, a child of the root token, so it can be cancelled.
+     * The thread continues to run until the stopThread method is called. Actions still waiting then are cancelled.
      */
     @Override
     public void run() {
         while (running) {
+            ActionQueue.QueuedAction next;
             try {
                 isHandeling = false;
-                Actions action = this.actions.take();
-                isHandeling = true;
-                logger.info("Handeling action: {}", action.getName());
-                action.handleAction();
+                next = this.actions.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                continue;
+            }
+            if (next == null || park(next) || loginFirst(next)) {
+                continue;
+            }
+            isHandeling = true;
+            Actions action = next.action();
+            logger.info("Handeling action: {}", action.getName());
+            long start = System.nanoTime();
+            histogram(queueTimes, action).record(start - next.enqueued());
+            long leaseWait;
+            CancellationToken token = CancellationToken.root().child();
+            CancellationToken.Scope scope = token.bind();
+            try (token; scope;
+                 DriverLease.Lease lease = seleniumManager.getDriverLease().acquire(action.getName());
+                 ActionWatchdog.Watch watch = actionWatchdog.watch(action.getName(), token, action.getTimeBudget())) {
+                leaseWait = lease.getWaitTime().toMillis();
+                handleAction(action, next.result(), token, watch);
             } catch (InterruptedException e) {
+                // Stopping while waiting for the browser, the action is not handled.
                 Thread.currentThread().interrupt();
+                next.result().complete(ActionResult.cancelled(action.getName()));
+                continue;
+            }
+            long execution = System.nanoTime() - start;
+            histogram(executionTimes, action).record(execution);
+            busyTime.record(execution);
+            handled++;
+            logger.info("Handled action {} in {} ms (queued {} ms, lease wait {} ms). Waiting: {}/{}",
+                    action.getName(), TimeUnit.NANOSECONDS.toMillis(execution),
+                    TimeUnit.NANOSECONDS.toMillis(start - next.enqueued()), leaseWait, actions.size(), actions.getCapacity());
+            if (handled % REPORT_INTERVAL == 0) {
+                logStatistics();
+            }
+        }
+        isHandeling = false;
+        for (ActionQueue.QueuedAction waiting : actions.drain()) {
+            waiting.result().complete(ActionResult.cancelled(waiting.action().getName()));
+        }
+    }
+
+    /**
+     * Handles an action while the browser is leased to this thread. A failing action does not stop the thread.
+     *
+     * @param action the action to handle.
+     * @param result the future to complete with the result of the action.
+     * @param token  the cancellation token of the action.
+     * @param watch  the watch of the time budget of the action.
+     */
+    private void handleAction(Actions action, CompletableFuture<ActionResult> result, CancellationToken token,
+                              ActionWatchdog.Watch watch) {
+        long sessionGeneration = seleniumManager.getSessionGeneration();
+        try {
+            action.handleAction();
+            if (action == recoveredAction) {
+                // The retry worked, a later failure of the same action is counted afresh.
+                recoveredAction = null;
+            }
+            if (watch.isExpired()) {
+                // The action swallowed the cancellation, its result is incomplete.
+                result.complete(ActionResult.timedOut(action.getName()));
+                return;
+            }
+            CompletableFuture<ActionResult> deferred = action.getDeferredResult();
+            if (deferred != null) {
+                // The action registered the actions doing its work, the caller gets their result.
+                forward(deferred, result);
+                return;
             }
+            result.complete(ActionResult.succeeded(action.getName(), action.getResult()));
+        } catch (SeleniagramCancelledException e) {
+            completeCancelled(action, result, watch);
+        } catch (WebDriverException e) {
+            if (token.isCancelled()) {
+                completeCancelled(action, result, watch);
+                return;
+            }
+            recoverAction(action, result, e, sessionGeneration);
+        } catch (RuntimeException e) {
+            logger.error("Action {} failed: {}", action.getName(), e.getMessage(), e);
+            result.complete(ActionResult.failed(action.getName(), e));
+        }
+    }
+
+    /**
+     * Puts a {@link LoginAction} ahead of an action if a standby browser took over the session.
+     * The standby browser runs on its own profile that is not logged in, so the action would otherwise run logged out.
+     * The action is put back at the head of the queue, right behind the login, with the same result future.
+     *
+     * @param next the action taken from the queue.
+     * @return {@code true} if the login was queued ahead of the action, {@code false} if the action can be handled now.
+     */
+    private boolean loginFirst(ActionQueue.QueuedAction next) {
+        if (!seleniumManager.takeLoginRequired() || next.action() instanceof LoginAction) {
+            return false;
+        }
+        logger.info("Logging in before action {}.", next.action().getName());
+        this.actions.offerFirst(new LoginAction(), new CompletableFuture<>());
+        this.actions.offerFirst(next.action(), next.result());
+        return true;
+    }
+
+    /**
+     * Parks an action whose circuit is open. The action is queued again once the circuit allows a probe, with the
+     * same result future. An action whose deadline passes while it is parked is expired right away.
+     *
+     * @param next the action taken from the queue.
+     * @return {@code true} if the action was parked, {@code false} if it can be handled now.
+     */
+    private boolean park(ActionQueue.QueuedAction next) {
+        Actions action = next.action();
+        String circuitKey = action.getCircuitKey();
+        if (circuitKey == null || circuitBreakerManager.allowRequest(circuitKey)) {
+            return false;
+        }
+        Duration delay = circuitBreakerManager.get(circuitKey).getRemainingOpenTime();
+        if (delay.compareTo(MIN_PARK_TIME) < 0) {
+            delay = MIN_PARK_TIME;
+        }
+        if (next.deadline() != 0 && next.deadline() - (System.nanoTime() + delay.toNanos()) < 0) {
+            logger.info("Circuit {} is open. Action {} expires before it closes.", circuitKey, action.getName());
+            next.result().complete(ActionResult.expired(action.getName()));
+            return true;
+        }
+        parked++;
+        logger.info("Circuit {} is open. Parking action {} for {} ms.", circuitKey, action.getName(), delay.toMillis());
+        forward(registerActionsLater(action, delay), next.result());
+        return true;
+    }
+
+    /**
+     * Completes an action that was cancelled while it was running, either because it used up its time budget or
+     * because Seleniagram is shutting down.
+     *
+     * @param action the cancelled action.
+     * @param result the future to complete with the result of the action.
+     * @param watch  the watch of the time budget of the action.
+     */
+    private void completeCancelled(Actions action, CompletableFuture<ActionResult> result, ActionWatchdog.Watch watch) {
+        if (watch.isExpired()) {
+            logger.warn("Action {} timed out after {} ms.", action.getName(), watch.getBudget().toMillis());
+            result.complete(ActionResult.timedOut(action.getName()));
+            return;
+        }
+        logger.info("Action {} was cancelled.", action.getName());
+        result.complete(ActionResult.cancelled(action.getName()));
+    }
+
+    /**
+     * Handles an action that failed with a {@link WebDriverException}.
+     * If the action lost the browser session, the session is recovered unless someone else, e.g. the
+     * {@link SessionWatchdog}, already did, and the action is put back at the head of the queue, so it runs again
+     * before any other action. An action is retried at most {@link #MAX_RECOVERY_RETRIES} times in a row,
+     * afterwards it is dropped.
+     *
+     * @param action            the action that failed.
+     * @param result            the future to complete with the result of the action.
+     * @param exception         the exception thrown by the action.
+     * @param sessionGeneration the generation of the browser session when the action started.
+     */
+    private void recoverAction(Actions action, CompletableFuture<ActionResult> result, WebDriverException exception,
+                               long sessionGeneration) {
+        if (seleniumManager.isSessionAlive() && seleniumManager.getSessionGeneration() == sessionGeneration) {
+            logger.error("Action {} failed: {}", action.getName(), exception.getMessage());
+            result.complete(ActionResult.failed(action.getName(), exception));
+            return;
         }
+        try {
+            seleniumManager.recover();
+        } catch (WebDriverException e) {
+            logger.error("Can't recover WebDriver session: {}", e.getMessage());
+        }
+        if (action != recoveredAction) {
+            recoveredAction = action;
+            recoveryRetries = 0;
+        }
+        if (recoveryRetries >= MAX_RECOVERY_RETRIES) {
+            logger.error("Action {} failed again after recovery. Dropping it!", action.getName());
+            recoveredAction = null;
+            result.complete(ActionResult.failed(action.getName(), exception));
+            return;
+        }
+        recoveryRetries++;
+        logger.info("Retrying action {} after recovery.", action.getName());
+        this.actions.offerFirst(action, result);
+    }
+
+    /**
+     * Logs the queue counters, the utilization of the action thread and the time-in-queue and time-in-execution
+     * histograms of every action. A utilization close to 100 % together with growing queue times means the browser
+     * thread is saturated.
+     */
+    public void logStatistics() {
+        long elapsed = System.nanoTime() - startTime;
+        long utilization = elapsed == 0 ? 0 : busyTime.getTotal() * 100 / elapsed;
+        logger.info("Action queue: waiting {}/{}, handled {}, merged {}, expired {}, rejected {}, utilization {} %, {}",
+                actions.size(), actions.getCapacity(), handled, actions.getCoalescedCount(), actions.getExpiredCount(),
+                actions.getRejectedCount(), utilization, actionWatchdog.getStatistics());
+        logger.info("Parked actions: {}, {}", parked, circuitBreakerManager.getStatistics());
+        for (Map.Entry<String, LatencyHistogram> entry : executionTimes.entrySet()) {
+            logger.info("Action {}: queue [{}], execution [{}]", entry.getKey(),
+                    queueTimes.get(entry.getKey()), entry.getValue());
+        }
+    }
+
+    /**
+     * Returns the histogram of the given action, creating it on first use.
+     *
+     * @param histograms the histograms keyed by action name.
+     * @param action     the action.
+     * @return the histogram of the action.
+     */
+    private static LatencyHistogram histogram(Map<String, LatencyHistogram> histograms, Actions action) {
+        return histograms.computeIfAbsent(action.getName(), name -> new LatencyHistogram());
     }
 
     /**
-     * Stops the thread from running by setting the running flag to false and interrupting the thread.
+     * Stops the thread from running by setting the running flag to false and closing the action queue.
+     * The action that is handled right now is finished, waiting actions are cancelled. To end a running action early,
+     * cancel its {@link CancellationToken}.
      */
     public void stopThread() {
         logger.info("Stopping ActionThreadManager!");
         running = false;
-        this.interrupt();
+        actions.close();
     }
 
     /**
-     * Registers an action to be processed by the thread. The action is added to the action queue.
-     * If the thread is interrupted while adding the action to the queue, the interrupt status is preserved.
+     * Registers an action to be processed by the thread. The action is added to the action queue by its priority.
+     * If an equivalent action is already waiting, the action is merged into it instead.
      *
      * @param action the action to be registered.
+     * @return a future completed with the result of the action once it was handled, dropped or cancelled.
+     * @see ActionQueue
      */
-    public void registerActions(Actions action) {
-        try {
-            this.actions.put(action);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+    public CompletableFuture<ActionResult> registerActions(Actions action) {
+        return this.actions.offer(action);
+    }
+
+    /**
+     * Registers an action after the given delay, e.g. to retry a failed step with a backoff.
+     * Until then the action does not take up space in the queue.
+     *
+     * @param action the action to be registered.
+     * @param delay  the time to wait before the action is queued.
+     * @return a future completed with the result of the action once it was handled, dropped or cancelled.
+     */
+    public CompletableFuture<ActionResult> registerActionsLater(Actions action, Duration delay) {
+        CompletableFuture<ActionResult> result = new CompletableFuture<>();
+        CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS)
+                .execute(() -> forward(this.actions.offer(action), result));
+        return result;
+    }
+
+    /**
+     * Completes a future with the outcome of another one.
+     *
+     * @param source the future whose outcome is passed on.
+     * @param target the future to complete.
+     */
+    private static void forward(CompletableFuture<ActionResult> source, CompletableFuture<ActionResult> target) {
+        source.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                target.completeExceptionally(throwable);
+            } else {
+                target.complete(result);
+            }
+        });
+    }
+
+    /**
+     * Registers an action that runs as soon as its prerequisite succeeded.
+     * The action is not queued behind the other waiting actions, it runs right after the prerequisite.
+     * If the prerequisite did not succeed, the action is cancelled without being handled.
+     *
+     * @param prerequisite the result of the action that has to succeed first.
+     * @param action       the action to run after the prerequisite.
+     * @return a future completed with the result of the action.
+     */
+    public CompletableFuture<ActionResult> registerActionAfter(CompletableFuture<ActionResult> prerequisite, Actions action) {
+        CompletableFuture<ActionResult> result = new CompletableFuture<>();
+        prerequisite.whenComplete((prerequisiteResult, throwable) -> {
+            if (throwable == null && prerequisiteResult.isSuccessful()) {
+                this.actions.offerFirst(action, result);
+            } else {
+                logger.info("Cancelling action {}, its prerequisite did not succeed.", action.getName());
+                result.complete(ActionResult.cancelled(action.getName()));
+            }
+        });
+        return result;
     }
 
     /**
@@ -101,6 +400,24 @@ public class ActionThreadManager extends Thread {
         return seleniumManager;
     }
 
+    /**
+     * Returns the watchdog that enforces the time budget of the actions.
+     *
+     * @return the ActionWatchdog of this thread.
+     */
+    public ActionWatchdog getActionWatchdog() {
+        return actionWatchdog;
+    }
+
+    /**
+     * Returns the circuits of the steps the actions depend on.
+     *
+     * @return the CircuitBreakerManager of this thread.
+     */
+    public CircuitBreakerManager getCircuitBreakerManager() {
+        return circuitBreakerManager;
+    }
+
     /**
      * Returns the size() of actions
      *
@@ -110,7 +427,7 @@ public class ActionThreadManager extends Thread {
         return actions.size();
     }
 
-    private boolean isHandeling = false;
+    private volatile boolean isHandeling = false;
 
     public boolean getIsHandeling() {
         return isHandeling;
@@ -0,0 +1,184 @@
+package eu.hobbydev.bracheus.manager;
+
+
+import eu.hobbydev.bracheus.utils.CancellationToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The ActionWatchdog class enforces the time budget of actions and listener checkups.
+ * <p>
+ * Before an action runs, its thread starts a {@link Watch} with the budget of the action. If the watch is still open
+ * when the budget is used up, the watchdog cancels the {@link CancellationToken} of the action and interrupts its
+ * thread, so waits, driver calls and blocking queues end early. The thread then completes the action as timed out and
+ * moves on to the next one, so a single hung step can no longer block everything behind it.
+ * </p>
+ *
+ * <p>The number of timed out runs per action is recorded and can be logged with {@link #getStatistics()}.
+ * The watchdog runs on a single daemon thread and can be stopped by invoking the stopWatchdog method.</p>
+ */
+public class ActionWatchdog {
+
+    private final Logger logger = LoggerFactory.getLogger(ActionWatchdog.class);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(command -> {
+        Thread thread = new Thread(command, "ActionWatchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, AtomicLong> timeouts = new ConcurrentHashMap<>();
+
+    /**
+     * Starts watching the work of the calling thread.
+     *
+     * @param name   the name of the action or listener, used for logging and the statistics.
+     * @param token  the cancellation token of the work.
+     * @param budget the time the work may take, or {@code null} if it is not limited.
+     * @return the watch, which must be closed when the work is done.
+     */
+    public Watch watch(String name, CancellationToken token, Duration budget) {
+        Watch watch = new Watch(name, Thread.currentThread(), token, budget);
+        if (budget != null && !scheduler.isShutdown()) {
+            watch.timer = scheduler.schedule(watch::expire, budget.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return watch;
+    }
+
+    /**
+     * Returns the number of runs that used up their time budget.
+     *
+     * @return the number of timed out runs of all actions and listeners.
+     */
+    public long getTimedOutCount() {
+        long count = 0;
+        for (AtomicLong value : timeouts.values()) {
+            count += value.get();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the timeout statistics of the watchdog.
+     *
+     * @return a string with the number of timed out runs per action and listener.
+     */
+    public String getStatistics() {
+        StringJoiner statistics = new StringJoiner(", ", "timed out [", "]");
+        for (Map.Entry<String, AtomicLong> entry : timeouts.entrySet()) {
+            statistics.add(entry.getKey() + "=" + entry.getValue().get());
+        }
+        return statistics.toString();
+    }
+
+    /**
+     * Stops the watchdog. Running watches are no longer enforced.
+     */
+    public void stopWatchdog() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * A watch of one run of an action or listener. Closing it before the budget is used up stops the watch.
+     */
+    public final class Watch implements AutoCloseable {
+
+        private final String name;
+        private final Thread thread;
+        private final CancellationToken token;
+        private final Duration budget;
+        private ScheduledFuture<?> timer;
+        private boolean closed = false;
+        private volatile boolean expired = false;
+
+        /**
+         * Constructs a watch.
+         *
+         * @param name   the name of the watched action or listener.
+         * @param thread the thread running the work.
+         * @param token  the cancellation token of the work.
+         * @param budget the time the work may take, or {@code null}.
+         */
+        private Watch(String name, Thread thread, CancellationToken token, Duration budget) {
+            this.name = name;
+            this.thread = thread;
+            this.token = token;
+            this.budget = budget;
+        }
+
+        /**
+         * Cancels the work because its budget is used up. Called by the watchdog thread.
+         */
+        private synchronized void expire() {
+            if (closed) {
+                return;
+            }
+            expired = true;
+            timeouts.computeIfAbsent(name, key -> new AtomicLong()).incrementAndGet();
+            logger.warn("{} exceeded its time budget of {} ms. Cancelling it!", name, budget.toMillis());
+            token.cancel("time budget of " + name + " exceeded");
+            thread.interrupt();
+        }
+
+        /**
+         * Checks whether the work used up its budget and was cancelled.
+         *
+         * @return {@code true} if the budget was used up.
+         */
+        public boolean isExpired() {
+            return expired;
+        }
+
+        /**
+         * Gets the budget of the watched work.
+         *
+         * @return the budget, or {@code null} if it is not limited.
+         */
+        public Duration getBudget() {
+            return budget;
+        }
+
+        /**
+         * Stops the watch. If the watchdog interrupted the thread, the interrupt is cleared, so it does not leak into
+         * the next run of the thread.
+         */
+        @Override
+        public void close() {
+            synchronized (this) {
+                closed = true;
+                if (timer != null) {
+                    timer.cancel(false);
+                }
+            }
+            if (expired) {
+                Thread.interrupted();
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package eu.hobbydev.bracheus.manager;
+
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The CircuitBreaker class counts the failures of one step, e.g. the lookup of a locator, and stops calling the step
+ * while it keeps failing.
+ * <p>
+ * The circuit starts closed and every call is allowed. After a number of consecutive failures it opens, and calls
+ * are refused until the open time is over. Then the circuit is half-open: a single probe call is allowed. If the probe
+ * succeeds, the circuit closes again, otherwise it opens for twice as long as before, up to the maximum open time.
+ * </p>
+ *
+ * <p>While the circuit is closed, failed calls are retried after {@link #getRetryDelay()}, an exponential backoff with
+ * jitter, so a broken page is not reloaded in a tight loop. All methods are thread-safe.</p>
+ */
+public class CircuitBreaker {
+
+    /**
+     * The states of a circuit.
+     */
+    public enum State {
+        /**
+         * Every call is allowed.
+         */
+        CLOSED,
+        /**
+         * Calls are refused until the open time is over.
+         */
+        OPEN,
+        /**
+         * A single probe call is allowed to check whether the step works again.
+         */
+        HALF_OPEN
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+    private final String name;
+    private final int failureThreshold;
+    private final long retryBaseDelay;
+    private final long openTime;
+    private final long maxOpenTime;
+    private State state = State.CLOSED;
+    private int failures = 0;
+    private int openings = 0;
+    private long openUntil;
+    private long probeStarted;
+    private long totalFailures = 0;
+    private long refused = 0;
+
+    /**
+     * Constructs a closed circuit.
+     *
+     * @param name             the name of the circuit, e.g. the name of the locator.
+     * @param failureThreshold the number of consecutive failures that open the circuit.
+     * @param retryBaseDelay   the delay in milliseconds before the first retry of a failed call.
+     * @param openTime         the time in milliseconds the circuit stays open the first time.
+     * @param maxOpenTime      the longest time in milliseconds the circuit stays open.
+     */
+    public CircuitBreaker(String name, int failureThreshold, long retryBaseDelay, long openTime, long maxOpenTime) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.retryBaseDelay = retryBaseDelay;
+        this.openTime = openTime;
+        this.maxOpenTime = Math.max(openTime, maxOpenTime);
+    }
+
+    /**
+     * Checks whether a call of the step is allowed right now.
+     * An open circuit whose open time is over becomes half-open and allows this call as the probe.
+     *
+     * @return {@code true} if the call is allowed, {@code false} if the circuit refuses it.
+     */
+    public synchronized boolean allowRequest() {
+        long now = System.nanoTime();
+        switch (state) {
+            case OPEN:
+                if (now - openUntil < 0) {
+                    refused++;
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeStarted = now;
+                logger.info("Circuit {} is half-open. Probing!", name);
+                return true;
+            case HALF_OPEN:
+                // A probe that never reported back is replaced by a new one.
+                if (now - probeStarted > TimeUnit.MILLISECONDS.toNanos(openTime)) {
+                    probeStarted = now;
+                    return true;
+                }
+                refused++;
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Records a successful call. The circuit closes and the failure count is reset.
+     */
+    public synchronized void recordSuccess() {
+        if (state != State.CLOSED) {
+            logger.info("Circuit {} is closed again.", name);
+        }
+        state = State.CLOSED;
+        failures = 0;
+        openings = 0;
+    }
+
+    /**
+     * Records a failed call. The circuit opens when the failure threshold is reached or the probe of a half-open
+     * circuit failed.
+     */
+    public synchronized void recordFailure() {
+        failures++;
+        totalFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && failures >= failureThreshold)) {
+            openings++;
+            long time = backoff(openTime, openings, maxOpenTime);
+            openUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(time);
+            state = State.OPEN;
+            logger.warn("Circuit {} is open for {} ms after {} failures in a row.", name, time, failures);
+        }
+    }
+
+    /**
+     * Returns how long to wait before a failed call is retried. The delay doubles with every consecutive failure,
+     * up to the open time of the circuit, and is randomized so retries do not happen in lockstep.
+     *
+     * @return the retry delay.
+     */
+    public synchronized Duration getRetryDelay() {
+        return Duration.ofMillis(backoff(retryBaseDelay, failures, openTime));
+    }
+
+    /**
+     * Returns how long the circuit refuses calls from now on.
+     *
+     * @return the remaining open time, or {@link Duration#ZERO} if the circuit allows calls.
+     */
+    public synchronized Duration getRemainingOpenTime() {
+        long now = System.nanoTime();
+        return switch (state) {
+            case OPEN -> Duration.ofNanos(Math.max(0, openUntil - now));
+            case HALF_OPEN -> Duration.ofNanos(Math.max(0, probeStarted + TimeUnit.MILLISECONDS.toNanos(openTime) - now));
+            default -> Duration.ZERO;
+        };
+    }
+
+    /**
+     * Gets the state of the circuit.
+     *
+     * @return the current state.
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Gets the name of the circuit.
+     *
+     * @return the name of the circuit.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Computes an exponential backoff with jitter: the base delay doubled for every attempt after the first, capped
+     * at the maximum, and then randomized between half and all of it.
+     *
+     * @param base    the delay of the first attempt in milliseconds.
+     * @param attempt the number of the attempt, starting with 1.
+     * @param max     the longest delay in milliseconds.
+     * @return the delay in milliseconds.
+     */
+    static long backoff(long base, int attempt, long max) {
+        if (base <= 0) {
+            return 0;
+        }
+        int shift = Math.min(Math.max(attempt - 1, 0), 30);
+        long delay = base > (max >> shift) ? max : Math.min(max, base << shift);
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    /**
+     * Returns a string representation of the circuit.
+     *
+     * @return a string containing the state, the failures in a row, the total failures and the refused calls.
+     */
+    @Override
+    public synchronized String toString() {
+        return name + "{" +
+                "state=" + state +
+                ", failures=" + failures +
+                ", totalFailures=" + totalFailures +
+                ", refused=" + refused +
+                '}';
+    }
+}
@@ -0,0 +1,109 @@
+package eu.hobbydev.bracheus.manager;
+
+
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The CircuitBreakerManager class keeps one {@link CircuitBreaker} per step, e.g. per locator, and creates them on
+ * first use with the same settings.
+ * <p>
+ * Actions record the outcome of their steps here. An action that depends on a step declares its circuit with
+ * {@link eu.hobbydev.bracheus.interfaces.Actions#getCircuitKey()}: while that circuit is open, the
+ * {@link ActionThreadManager} parks the action instead of running it, and queues it again when the circuit allows a
+ * probe.
+ * </p>
+ */
+public class CircuitBreakerManager {
+
+    private final Map<String, CircuitBreaker> circuits = new ConcurrentHashMap<>();
+    private final int failureThreshold;
+    private final long retryBaseDelay;
+    private final long openTime;
+    private final long maxOpenTime;
+
+    /**
+     * Constructs a CircuitBreakerManager whose circuits share the given settings.
+     *
+     * @param failureThreshold the number of consecutive failures that open a circuit.
+     * @param retryBaseDelay   the delay in milliseconds before the first retry of a failed step.
+     * @param openTime         the time in milliseconds a circuit stays open the first time.
+     * @param maxOpenTime      the longest time in milliseconds a circuit stays open.
+     */
+    public CircuitBreakerManager(int failureThreshold, long retryBaseDelay, long openTime, long maxOpenTime) {
+        this.failureThreshold = failureThreshold;
+        this.retryBaseDelay = retryBaseDelay;
+        this.openTime = openTime;
+        this.maxOpenTime = maxOpenTime;
+    }
+
+    /**
+     * Returns the circuit of the given step, creating it if it does not exist yet.
+     *
+     * @param name the name of the step.
+     * @return the circuit of the step.
+     */
+    public CircuitBreaker get(String name) {
+        return circuits.computeIfAbsent(name, key -> new CircuitBreaker(key, failureThreshold, retryBaseDelay, openTime, maxOpenTime));
+    }
+
+    /**
+     * Checks whether the given step may be called right now.
+     *
+     * @param name the name of the step.
+     * @return {@code true} if the call is allowed, {@code false} if the circuit of the step refuses it.
+     */
+    public boolean allowRequest(String name) {
+        return get(name).allowRequest();
+    }
+
+    /**
+     * Records a successful call of the given step.
+     *
+     * @param name the name of the step.
+     */
+    public void recordSuccess(String name) {
+        get(name).recordSuccess();
+    }
+
+    /**
+     * Records a failed call of the given step.
+     *
+     * @param name the name of the step.
+     */
+    public void recordFailure(String name) {
+        get(name).recordFailure();
+    }
+
+    /**
+     * Returns the statistics of all circuits.
+     *
+     * @return a string with the state and the failure counts of every circuit.
+     */
+    public String getStatistics() {
+        StringJoiner statistics = new StringJoiner(", ", "circuits [", "]");
+        for (CircuitBreaker circuit : circuits.values()) {
+            statistics.add(circuit.toString());
+        }
+        return statistics.toString();
+    }
+}
@@ -0,0 +1,901 @@
+package eu.hobbydev.bracheus.manager;
+
+
+import eu.hobbydev.bracheus.classes.InstaUser;
+import eu.hobbydev.bracheus.classes.StatsHistory;
+import eu.hobbydev.bracheus.interfaces.User;
+import eu.hobbydev.bracheus.interfaces.UserStorage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The CompactUserStorage class stores the known users in primitive arrays instead of one object per user,
+ * so hundreds of thousands of tracked users fit into a small heap.
+ * <p>
+ * Every user gets a slot. The counters, the version and the follow flag of all users are kept column by column in
+ * {@code int} and {@code byte} arrays indexed by slot, and the usernames are kept as UTF-8 bytes in a single byte
+ * array. Versions are therefore limited to {@link Integer#MAX_VALUE}. The {@link StatsHistory} of a user is kept in
+ * a column as its encoded bytes ({@link StatsHistory#toCompactBytes()}), so it costs a byte array instead of a history
+ * object, its buffer and a map entry keyed by username. An open-addressing table of slot numbers, probed linearly, finds the slot of a username.
+ * Per user, this needs a few dozen bytes instead of an {@link InstaUser}, a {@link String} with its byte array and
+ * a map entry. Slots of removed users are reused, and the username bytes are compacted once half of them belong to
+ * removed users.
+ * </p>
+ *
+ * <p>{@link #get(String)} creates a new published {@link InstaUser} with the stored values on every call, so callers
+ * that only read a few counters should use {@link #view(String)}, which reads the arrays directly. Reads share a read
+ * lock, changes take the write lock, so a reader never sees a half-written user.</p>
+ */
+public class CompactUserStorage implements UserStorage {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int FOLLOWED = 1;
+    // The upper seven bits of the flags count how often a slot was freed, so a view notices that its slot was reused.
+    private static final int GENERATION = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Columns indexed by slot. A name length of 0 marks a free slot, usernames are never empty.
+    private int[] posts;
+    private int[] subs;
+    private int[] subbed;
+    private int[] versions;
+    private int[] nameOffsets;
+    private byte[] nameLengths;
+    private byte[] flags;
+    private byte[][] histories;
+
+    // UTF-8 bytes of all usernames, appended in slot allocation order.
+    private byte[] names;
+    private int namesSize;
+    private int namesGarbage;
+
+    // Open-addressing table of slot + 1, 0 marks an empty bucket.
+    private int[] index;
+    private int[] freeSlots;
+    private int freeCount;
+    private int slotCount;
+    private int size;
+    private int followedCount;
+
+    /**
+     * Constructs an empty CompactUserStorage.
+     */
+    public CompactUserStorage() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty CompactUserStorage with room for the given number of users. It grows when more users are
+     * stored.
+     *
+     * @param capacity the expected number of users.
+     */
+    public CompactUserStorage(int capacity) {
+        int slots = Math.max(16, capacity);
+        posts = new int[slots];
+        subs = new int[slots];
+        subbed = new int[slots];
+        versions = new int[slots];
+        nameOffsets = new int[slots];
+        nameLengths = new byte[slots];
+        flags = new byte[slots];
+        histories = new byte[slots][];
+        names = new byte[slots * 16];
+        freeSlots = new int[16];
+        index = new int[tableSize(slots)];
+    }
+
+    /**
+     * Retrieves a known user as a new published {@link InstaUser} with the stored values.
+     *
+     * @param username the username of the user.
+     * @return the snapshot, or {@code null} if the user is not known.
+     */
+    @Override
+    public InstaUser get(String username) {
+        byte[] name = encode(username);
+        lock.readLock().lock();
+        try {
+            int slot = findSlot(name);
+            return slot < 0 ? null : materialize(slot, username);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves a read-only view of a known user, which reads the counters from the arrays without creating a user.
+     *
+     * @param username the username of the user.
+     * @return the {@link UserView}, or {@code null} if the user is not known.
+     */
+    @Override
+    public UserView view(String username) {
+        byte[] name = encode(username);
+        lock.readLock().lock();
+        try {
+            int slot = findSlot(name);
+            return slot < 0 ? null : new UserView(username, slot, generation(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Atomically computes the new values of a user while holding the write lock. The function receives a published
+     * snapshot of the current values, or {@code null}. If it returns that snapshot, nothing is written.
+     *
+     * @param username  the username of the user.
+     * @param remapping the function computing the new snapshot.
+     * @return the stored snapshot, or {@code null} if the user is not known afterwards.
+     * @throws IllegalArgumentException if the username is longer than 255 bytes in UTF-8, or the version does not
+     *                                  fit into an {@code int}.
+     */
+    @Override
+    public InstaUser compute(String username, BiFunction<String, InstaUser, InstaUser> remapping) {
+        byte[] name = encode(username);
+        if (name.length == 0 || name.length > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Can't store username " + username + " with " + name.length + " bytes!");
+        }
+        lock.writeLock().lock();
+        try {
+            int hash = hash(name, 0, name.length);
+            int bucket = findBucket(name, hash);
+            int slot = index[bucket] - 1;
+            InstaUser current = slot < 0 ? null : materialize(slot, username);
+            InstaUser next = remapping.apply(username, current);
+            if (next == current) {
+                return current;
+            }
+            if (next == null) {
+                removeSlot(bucket, slot);
+                return null;
+            }
+            if (next.getVersion() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Can't store version " + next.getVersion() + " of " + username + "!");
+            }
+            if (slot < 0) {
+                slot = addSlot(name, hash);
+            }
+            posts[slot] = next.getPosts();
+            subs[slot] = next.getSubs();
+            subbed[slot] = next.getSubbed();
+            versions[slot] = (int) next.getVersion();
+            return next;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether a user is known.
+     *
+     * @param username the username of the user.
+     * @return {@code true} if the user is known.
+     */
+    @Override
+    public boolean contains(String username) {
+        byte[] name = encode(username);
+        lock.readLock().lock();
+        try {
+            return findSlot(name) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether a user is followed.
+     *
+     * @param username the username of the user.
+     * @return {@code true} if the user is known and followed.
+     */
+    @Override
+    public boolean isFollowed(String username) {
+        byte[] name = encode(username);
+        lock.readLock().lock();
+        try {
+            int slot = findSlot(name);
+            return slot >= 0 && (flags[slot] & FOLLOWED) != 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sets the follow flag of a known user.
+     *
+     * @param username the username of the user.
+     * @param follow   the new follow status.
+     * @return {@code true} if the follow status changed.
+     */
+    @Override
+    public boolean setFollowed(String username, boolean follow) {
+        byte[] name = encode(username);
+        lock.writeLock().lock();
+        try {
+            int slot = findSlot(name);
+            if (slot < 0 || ((flags[slot] & FOLLOWED) != 0) == follow) {
+                return false;
+            }
+            flags[slot] ^= (byte) FOLLOWED;
+            followedCount += follow ? 1 : -1;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the stats history of a known user, decoded from its bytes.
+     *
+     * @param username the username of the user.
+     * @return a copy of the history, or {@code null} if the user is not known or has no history yet.
+     */
+    @Override
+    public StatsHistory getStatsHistory(String username) {
+        byte[] name = encode(username);
+        byte[] history;
+        lock.readLock().lock();
+        try {
+            int slot = findSlot(name);
+            history = slot < 0 ? null : histories[slot];
+        } finally {
+            lock.readLock().unlock();
+        }
+        // The bytes of a history are replaced, never changed, so they are decoded without the lock.
+        return decode(history);
+    }
+
+    /**
+     * Atomically updates the stats history of a known user while holding the write lock. The function receives a
+     * decoded copy, and the returned history is stored encoded.
+     *
+     * @param username the username of the user.
+     * @param update   the function updating the history.
+     * @return the new history, or {@code null} if the user is not known.
+     */
+    @Override
+    public StatsHistory updateStatsHistory(String username, UnaryOperator<StatsHistory> update) {
+        byte[] name = encode(username);
+        lock.writeLock().lock();
+        try {
+            int slot = findSlot(name);
+            if (slot < 0) {
+                return null;
+            }
+            StatsHistory next = update.apply(decode(histories[slot]));
+            histories[slot] = next == null ? null : next.toCompactBytes();
+            return next;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Calls the given action for the decoded stats history of every known user that has one. Every step takes the
+     * read lock on its own, like the iterator of {@link #values()}.
+     *
+     * @param action the action receiving the username and the history.
+     */
+    @Override
+    public void forEachStatsHistory(BiConsumer<String, StatsHistory> action) {
+        for (int slot = 0; ; slot++) {
+            String username;
+            byte[] history;
+            lock.readLock().lock();
+            try {
+                if (slot >= slotCount) {
+                    return;
+                }
+                if (nameLengths[slot] == 0 || histories[slot] == null) {
+                    continue;
+                }
+                username = decodeName(slot);
+                history = histories[slot];
+            } finally {
+                lock.readLock().unlock();
+            }
+            action.accept(username, decode(history));
+        }
+    }
+
+    /**
+     * Returns all known users. The iterator creates a snapshot of every user when it is reached, users added or
+     * removed during the iteration may or may not be returned.
+     *
+     * @return an unmodifiable, weakly consistent view of the known users.
+     */
+    @Override
+    public Collection<InstaUser> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<InstaUser> iterator() {
+                return new SlotIterator();
+            }
+
+            @Override
+            public int size() {
+                return CompactUserStorage.this.size();
+            }
+        };
+    }
+
+    /**
+     * Returns the number of known users.
+     *
+     * @return the number of known users.
+     */
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of followed users.
+     *
+     * @return the number of followed users.
+     */
+    @Override
+    public int followedCount() {
+        lock.readLock().lock();
+        try {
+            return followedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs the given task while holding the read lock, so no user can be changed until it is done.
+     *
+     * @param task the task to run.
+     */
+    @Override
+    public void blockingWrites(Runnable task) {
+        lock.readLock().lock();
+        try {
+            task.run();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the memory used by the arrays, e.g. for logging.
+     *
+     * @return a string with the number of users, slots, username bytes and buckets.
+     */
+    public String getStatistics() {
+        lock.readLock().lock();
+        try {
+            return "users=" + size +
+                    ", slots=" + posts.length +
+                    ", names=" + namesSize + "/" + names.length + " bytes" +
+                    ", buckets=" + index.length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Creates a published snapshot of the values in a slot. The lock must be held.
+     *
+     * @param slot     the slot of the user.
+     * @param username the username of the user, or {@code null} to decode it from the stored bytes.
+     * @return the published snapshot.
+     */
+    private InstaUser materialize(int slot, String username) {
+        InstaUser user = new InstaUser(username != null ? username : decodeName(slot));
+        user.setPosts(posts[slot]);
+        user.setSubs(subs[slot]);
+        user.setSubbed(subbed[slot]);
+        return user.publish(versions[slot]);
+    }
+
+    /**
+     * Decodes the username stored for a slot. The lock must be held.
+     *
+     * @param slot the slot of the user.
+     * @return the username.
+     */
+    private String decodeName(int slot) {
+        return new String(names, nameOffsets[slot], nameLengths[slot] & 0xFF, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Finds the slot of a username. The lock must be held.
+     *
+     * @param name the UTF-8 bytes of the username.
+     * @return the slot, or -1 if the user is not known.
+     */
+    private int findSlot(byte[] name) {
+        return index[findBucket(name, hash(name, 0, name.length))] - 1;
+    }
+
+    /**
+     * Probes the table linearly, starting at the bucket of the hash, until the username or an empty bucket is found.
+     * The table is never full, so the probing always ends. The lock must be held.
+     *
+     * @param name the UTF-8 bytes of the username.
+     * @param hash the hash of the username.
+     * @return the bucket holding the slot of the user, or the empty bucket where it would be inserted.
+     */
+    private int findBucket(byte[] name, int hash) {
+        int bucket = home(hash, index.length);
+        while (true) {
+            int entry = index[bucket];
+            if (entry == 0) {
+                return bucket;
+            }
+            int slot = entry - 1;
+            int offset = nameOffsets[slot];
+            if ((nameLengths[slot] & 0xFF) == name.length
+                    && Arrays.equals(names, offset, offset + name.length, name, 0, name.length)) {
+                return bucket;
+            }
+            bucket = nextBucket(bucket, index.length);
+        }
+    }
+
+    /**
+     * Stores a new username in a free slot and adds the slot to the table. The write lock must be held.
+     *
+     * @param name the UTF-8 bytes of the username.
+     * @param hash the hash of the username.
+     * @return the slot of the new user.
+     */
+    private int addSlot(byte[] name, int hash) {
+        if (size + 1 > index.length * LOAD_FACTOR) {
+            rehash(index.length + (index.length >> 1));
+        }
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == posts.length) {
+                growSlots(slotCount + (slotCount >> 2));
+            }
+            slot = slotCount++;
+        }
+        if (namesSize + name.length > names.length) {
+            growNames(name.length);
+        }
+        System.arraycopy(name, 0, names, namesSize, name.length);
+        nameOffsets[slot] = namesSize;
+        nameLengths[slot] = (byte) name.length;
+        namesSize += name.length;
+        index[findBucket(name, hash)] = slot + 1;
+        size++;
+        return slot;
+    }
+
+    /**
+     * Removes a user. The bucket is emptied by shifting the following entries of its probe sequence back, so no
+     * tombstones are needed. The write lock must be held.
+     *
+     * @param bucket the bucket holding the slot.
+     * @param slot   the slot of the user.
+     */
+    private void removeSlot(int bucket, int slot) {
+        int hole = bucket;
+        int next = bucket;
+        while (true) {
+            next = nextBucket(next, index.length);
+            int entry = index[next];
+            if (entry == 0) {
+                break;
+            }
+            int home = home(slotHash(entry - 1), index.length);
+            // The entry may move into the hole if its home bucket is not between the hole and its bucket.
+            boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                index[hole] = entry;
+                hole = next;
+            }
+        }
+        index[hole] = 0;
+
+        if ((flags[slot] & FOLLOWED) != 0) {
+            followedCount--;
+        }
+        flags[slot] = (byte) (generation(slot) + GENERATION);
+        histories[slot] = null;
+        namesGarbage += nameLengths[slot] & 0xFF;
+        nameLengths[slot] = 0;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        size--;
+    }
+
+    /**
+     * Grows all columns to the given number of slots. The write lock must be held.
+     *
+     * @param slots the new number of slots.
+     */
+    private void growSlots(int slots) {
+        posts = Arrays.copyOf(posts, slots);
+        subs = Arrays.copyOf(subs, slots);
+        subbed = Arrays.copyOf(subbed, slots);
+        versions = Arrays.copyOf(versions, slots);
+        nameOffsets = Arrays.copyOf(nameOffsets, slots);
+        nameLengths = Arrays.copyOf(nameLengths, slots);
+        flags = Arrays.copyOf(flags, slots);
+        histories = Arrays.copyOf(histories, slots);
+    }
+
+    /**
+     * Makes room for a username of the given length. If at least half of the stored bytes belong to removed users,
+     * the bytes of the known users are copied together, otherwise the array grows. The write lock must be held.
+     *
+     * @param length the length of the username to store.
+     */
+    private void growNames(int length) {
+        int capacity = names.length;
+        if (namesGarbage < namesSize / 2) {
+            capacity = Math.max(capacity + (capacity >> 2), namesSize + length);
+        }
+        byte[] compacted = new byte[Math.max(capacity, namesSize - namesGarbage + length)];
+        int position = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            int nameLength = nameLengths[slot] & 0xFF;
+            if (nameLength > 0) {
+                System.arraycopy(names, nameOffsets[slot], compacted, position, nameLength);
+                nameOffsets[slot] = position;
+                position += nameLength;
+            }
+        }
+        names = compacted;
+        namesSize = position;
+        namesGarbage = 0;
+    }
+
+    /**
+     * Rebuilds the table with the given number of buckets. The write lock must be held.
+     *
+     * @param buckets the new number of buckets.
+     */
+    private void rehash(int buckets) {
+        int[] table = new int[buckets];
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (nameLengths[slot] != 0) {
+                int bucket = home(slotHash(slot), buckets);
+                while (table[bucket] != 0) {
+                    bucket = nextBucket(bucket, buckets);
+                }
+                table[bucket] = slot + 1;
+            }
+        }
+        index = table;
+    }
+
+    /**
+     * Returns the generation of a slot, which changes whenever the slot is freed. The lock must be held.
+     *
+     * @param slot the slot.
+     * @return the generation bits of the flags.
+     */
+    private int generation(int slot) {
+        return flags[slot] & ~FOLLOWED;
+    }
+
+    /**
+     * Computes the hash of the username stored for a slot. The lock must be held.
+     *
+     * @param slot the slot of the user.
+     * @return the hash of the username.
+     */
+    private int slotHash(int slot) {
+        return hash(names, nameOffsets[slot], nameLengths[slot] & 0xFF);
+    }
+
+    /**
+     * Computes the hash of UTF-8 bytes. The bits are spread, so similar usernames land in distant buckets.
+     *
+     * @param bytes  the bytes.
+     * @param offset the offset of the first byte.
+     * @param length the number of bytes.
+     * @return the hash.
+     */
+    private static int hash(byte[] bytes, int offset, int length) {
+        int hash = 1;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Decodes a stats history stored in the histories column.
+     *
+     * @param bytes the encoded history, or {@code null}.
+     * @return the history, or {@code null} if there is none.
+     */
+    private static StatsHistory decode(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return StatsHistory.fromCompactBytes(bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException("Stored stats history is invalid", e);
+        }
+    }
+
+    /**
+     * Encodes a username as UTF-8.
+     *
+     * @param username the username.
+     * @return the bytes of the username.
+     */
+    private static byte[] encode(String username) {
+        return username.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Computes the number of buckets for the given number of users.
+     *
+     * @param users the number of users.
+     * @return the number of buckets.
+     */
+    private static int tableSize(int users) {
+        return Math.max(16, (int) (users / LOAD_FACTOR) + 1);
+    }
+
+    /**
+     * Maps a hash to its home bucket. The table size does not have to be a power of two, so the table can grow by
+     * half instead of doubling, which keeps it fuller.
+     *
+     * @param hash    the hash of the username.
+     * @param buckets the number of buckets.
+     * @return the home bucket.
+     */
+    private static int home(int hash, int buckets) {
+        return (int) (((hash & 0xFFFFFFFFL) * buckets) >>> 32);
+    }
+
+    /**
+     * Returns the bucket probed after the given one, wrapping around at the end of the table.
+     *
+     * @param bucket  the current bucket.
+     * @param buckets the number of buckets.
+     * @return the next bucket.
+     */
+    private static int nextBucket(int bucket, int buckets) {
+        return bucket + 1 == buckets ? 0 : bucket + 1;
+    }
+
+    /**
+     * Iterates over the slots in ascending order and creates a snapshot of every known user. Every step takes the
+     * read lock on its own, so writers are not blocked for the whole iteration.
+     */
+    private final class SlotIterator implements Iterator<InstaUser> {
+
+        private int slot = 0;
+        private InstaUser next;
+
+        /**
+         * Checks whether another known user follows.
+         *
+         * @return {@code true} if there is another user.
+         */
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            lock.readLock().lock();
+            try {
+                while (slot < slotCount) {
+                    int current = slot++;
+                    if (nameLengths[current] != 0) {
+                        next = materialize(current, null);
+                        return true;
+                    }
+                }
+                return false;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * Returns the snapshot of the next known user.
+         *
+         * @return the snapshot.
+         */
+        @Override
+        public InstaUser next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            InstaUser user = next;
+            next = null;
+            return user;
+        }
+    }
+
+    /**
+     * The UserView class is a read-only view of a user in a {@link CompactUserStorage}. It keeps only the slot of the
+     * user and reads the counters from the arrays on every call, so it is as cheap as possible to create.
+     * <p>
+     * If the user is removed, the slot may be reused by another user; the getters of the view then throw an
+     * {@link IllegalStateException}. The setters always throw an {@link UnsupportedOperationException}, users are
+     * changed with {@link UserManager#updateInstaUser(String, java.util.function.Consumer)}.
+     * </p>
+     */
+    public final class UserView implements User {
+
+        private static final int POSTS = 0;
+        private static final int SUBS = 1;
+        private static final int SUBBED = 2;
+
+        private final String username;
+        private final int slot;
+        private final int generation;
+
+        /**
+         * Constructs a view of a slot.
+         *
+         * @param username   the username of the user.
+         * @param slot       the slot of the user.
+         * @param generation the generation of the slot when the view was created.
+         */
+        private UserView(String username, int slot, int generation) {
+            this.username = username;
+            this.slot = slot;
+            this.generation = generation;
+        }
+
+        /**
+         * Checks whether the user of this view is still known.
+         *
+         * @return {@code true} if the user was not removed since the view was created.
+         */
+        public boolean isValid() {
+            lock.readLock().lock();
+            try {
+                return generation(slot) == generation;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * Gets the username of the user.
+         *
+         * @return the username.
+         */
+        @Override
+        public String getUsername() {
+            return username;
+        }
+
+        /**
+         * Gets the number of subscribers of the user.
+         *
+         * @return the number of subscribers.
+         * @throws IllegalStateException if the user was removed.
+         */
+        @Override
+        public int getSubs() {
+            return read(SUBS);
+        }
+
+        /**
+         * Gets the number of subscriptions of the user.
+         *
+         * @return the number of subscriptions.
+         * @throws IllegalStateException if the user was removed.
+         */
+        @Override
+        public int getSubbed() {
+            return read(SUBBED);
+        }
+
+        /**
+         * Gets the number of posts of the user.
+         *
+         * @return the number of posts.
+         * @throws IllegalStateException if the user was removed.
+         */
+        @Override
+        public int getPosts() {
+            return read(POSTS);
+        }
+
+        /**
+         * Not supported, the view is read-only.
+         *
+         * @param subs ignored.
+         */
+        @Override
+        public void setSubs(int subs) {
+            throw new UnsupportedOperationException("UserView of " + username + " is read-only!");
+        }
+
+        /**
+         * Not supported, the view is read-only.
+         *
+         * @param subbed ignored.
+         */
+        @Override
+        public void setSubbed(int subbed) {
+            throw new UnsupportedOperationException("UserView of " + username + " is read-only!");
+        }
+
+        /**
+         * Not supported, the view is read-only.
+         *
+         * @param posts ignored.
+         */
+        @Override
+        public void setPosts(int posts) {
+            throw new UnsupportedOperationException("UserView of " + username + " is read-only!");
+        }
+
+        /**
+         * Reads a counter of the slot. The columns are only accessed under the lock, since they are replaced when
+         * they grow.
+         *
+         * @param counter {@link #POSTS}, {@link #SUBS} or {@link #SUBBED}.
+         * @return the counter.
+         * @throws IllegalStateException if the user was removed.
+         */
+        private int read(int counter) {
+            lock.readLock().lock();
+            try {
+                if (generation(slot) != generation) {
+                    throw new IllegalStateException("InstaUser " + username + " was removed!");
+                }
+                return switch (counter) {
+                    case POSTS -> posts[slot];
+                    case SUBS -> subs[slot];
+                    default -> subbed[slot];
+                };
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package eu.hobbydev.bracheus.manager;
+
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The DriverLease class arbitrates the access to the single browser session.
+ * <p>
+ * The {@link ActionThreadManager} and the {@link ListenerThreadManager} both drive the same WebDriver. Before one of
+ * them navigates or reads a page, it acquires a {@link Lease} and keeps it until its work is done, so an action and a
+ * listener checkup can never interleave their navigations. The lease is fair: waiting threads get the browser in the
+ * order they asked for it.
+ * </p>
+ *
+ * <p>The time spent waiting for the lease is recorded and can be logged with {@link #getStatistics()}.</p>
+ */
+public class DriverLease {
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final AtomicLong acquisitions = new AtomicLong();
+    private final AtomicLong contended = new AtomicLong();
+    private final LatencyHistogram waitTimes = new LatencyHistogram();
+    private volatile String holder;
+
+    /**
+     * Waits until the browser is free and leases it to the calling thread.
+     * The lease is reentrant, a thread that already holds it acquires it again without waiting.
+     *
+     * @param holder the name of the action or listener that uses the browser, used for logging.
+     * @return the lease, which must be closed when the work is done.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public Lease acquire(String holder) throws InterruptedException {
+        long start = System.nanoTime();
+        // tryLock() would barge past the queued threads, so contention is only counted and the fair lock is taken.
+        if (!lock.isHeldByCurrentThread() && (lock.isLocked() || lock.hasQueuedThreads())) {
+            contended.incrementAndGet();
+        }
+        lock.lockInterruptibly();
+        long wait = System.nanoTime() - start;
+        acquisitions.incrementAndGet();
+        waitTimes.record(wait);
+        return new Lease(holder, wait);
+    }
+
+    /**
+     * Leases the browser to the calling thread only if it is free right now and no other thread is waiting for it,
+     * so the waiting threads keep their order.
+     *
+     * @param holder the name of the caller that uses the browser, used for logging.
+     * @return the lease, or {@code null} if the browser is in use, other threads are waiting, or the thread is
+     * interrupted.
+     */
+    public Lease tryAcquire(String holder) {
+        try {
+            if (!lock.tryLock(0, TimeUnit.NANOSECONDS)) {
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        acquisitions.incrementAndGet();
+        return new Lease(holder, 0);
+    }
+
+    /**
+     * Checks whether the browser is leased at the moment.
+     *
+     * @return {@code true} if a thread holds the lease.
+     */
+    public boolean isLeased() {
+        return lock.isLocked();
+    }
+
+    /**
+     * Returns the name of the current holder of the lease.
+     *
+     * @return the name of the holder, or {@code null} if the browser is free.
+     */
+    public String getHolder() {
+        return holder;
+    }
+
+    /**
+     * Returns the wait-time statistics of the lease.
+     *
+     * @return a string with the number of acquisitions, how many of them had to wait, and the wait-time histogram.
+     */
+    public String getStatistics() {
+        return "acquisitions=" + acquisitions.get() +
+                ", contended=" + contended.get() +
+                ", wait [" + waitTimes + "]";
+    }
+
+    /**
+     * A lease of the browser. Closing it hands the browser to the next waiting thread.
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final String previousHolder;
+        private final long wait;
+        private boolean closed = false;
+
+        /**
+         * Constructs a lease for the thread that just acquired the lock.
+         *
+         * @param holder the name of the new holder.
+         * @param wait   the time in nanoseconds the thread waited for the lease.
+         */
+        private Lease(String holder, long wait) {
+            this.previousHolder = DriverLease.this.holder;
+            this.wait = wait;
+            DriverLease.this.holder = holder;
+        }
+
+        /**
+         * Returns how long the thread waited for this lease.
+         *
+         * @return the wait time.
+         */
+        public Duration getWaitTime() {
+            return Duration.ofNanos(wait);
+        }
+
+        /**
+         * Releases the lease. Closing a lease more than once has no effect.
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            DriverLease.this.holder = previousHolder;
+            lock.unlock();
+        }
+    }
+}
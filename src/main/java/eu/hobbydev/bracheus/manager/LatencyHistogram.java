@@ -0,0 +1,142 @@
+package eu.hobbydev.bracheus.manager;
+
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The LatencyHistogram class records durations in buckets of powers of two.
+ * <p>
+ * Bucket 0 counts durations below one millisecond, bucket {@code i} durations from {@code 2^(i-1)} up to
+ * {@code 2^i} milliseconds. Recording a duration is a few atomic increments without any allocation, so it can be used
+ * on every action. Percentiles are reported as the upper bound of the bucket they fall into, which is precise enough
+ * to tell a 50 ms wait from a 5 s wait.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 40;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds.
+     */
+    public void record(long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(Math.max(0, nanos));
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(millis));
+        buckets.incrementAndGet(bucket);
+        count.increment();
+        total.add(Math.max(0, nanos));
+        max.accumulate(nanos);
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param duration the duration.
+     */
+    public void record(Duration duration) {
+        record(duration.toNanos());
+    }
+
+    /**
+     * Returns the number of recorded durations.
+     *
+     * @return the number of recorded durations.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of all recorded durations.
+     *
+     * @return the total duration in nanoseconds.
+     */
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * Returns the mean of the recorded durations.
+     *
+     * @return the mean in milliseconds, or 0 if nothing was recorded.
+     */
+    public long getMean() {
+        long recorded = getCount();
+        return recorded == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(getTotal() / recorded);
+    }
+
+    /**
+     * Returns the longest recorded duration.
+     *
+     * @return the maximum in milliseconds.
+     */
+    public long getMax() {
+        return TimeUnit.NANOSECONDS.toMillis(max.get());
+    }
+
+    /**
+     * Returns an upper bound of the given percentile of the recorded durations.
+     *
+     * @param percentile the percentile between 0 and 100.
+     * @return the upper bound of the bucket containing the percentile in milliseconds, or 0 if nothing was recorded.
+     */
+    public long getPercentile(double percentile) {
+        long recorded = getCount();
+        if (recorded == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(recorded * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(i == 0 ? 1 : 1L << i, Math.max(1, getMax()));
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Returns a summary of the recorded durations.
+     *
+     * @return a string with the count, the mean, the 50th, 90th and 99th percentile and the maximum.
+     */
+    @Override
+    public String toString() {
+        return "count=" + getCount() +
+                ", mean=" + getMean() + " ms" +
+                ", p50<=" + getPercentile(50) + " ms" +
+                ", p90<=" + getPercentile(90) + " ms" +
+                ", p99<=" + getPercentile(99) + " ms" +
+                ", max=" + getMax() + " ms";
+    }
+}
@@ -1,13 +1,16 @@
 package eu.hobbydev.bracheus.manager;
 
 
+import eu.hobbydev.bracheus.exceptions.SeleniagramCancelledException;
 import eu.hobbydev.bracheus.interfaces.Listener;
+import eu.hobbydev.bracheus.utils.CancellationToken;
 import eu.hobbydev.bracheus.utils.HumanizerTools;
+import org.openqa.selenium.WebDriverException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Copyright (C) 2025 Bracheus
@@ -29,90 +32,169 @@ import java.util.List;
 
 /**
  * The ListenerThreadManager class is responsible for managing and executing listeners in a separate thread.
- * This class extends the Thread class and continuously checks each registered listener at regular intervals.
+ * This class extends the Thread class and runs every registered listener on its own adaptive schedule.
  * The listeners perform specific checks and actions as defined by their implementation.
  *
+ * <p>Each listener declares the bounds of its interval with {@link Listener#getMinInterval()} and
+ * {@link Listener#getMaxInterval()}. A checkup that found activity tightens the interval of the listener to its minimum,
+ * every idle checkup doubles it up to its maximum. So busy listeners are checked often, idle ones rarely.</p>
+ *
  * <p>The thread can be stopped gracefully by calling the stopManager method, which halts the thread's execution.</p>
  */
 public class ListenerThreadManager extends Thread implements HumanizerTools {
+
+    // Time a due checkup is postponed while an action is handled.
+    private static final long ACTION_BACKOFF = 10000;
+    // Time the thread waits when no listener is registered.
+    private static final long IDLE_WAIT = 30000;
+
     private Logger logger = LoggerFactory.getLogger(ListenerThreadManager.class);
-    private List<Listener> listeners;
+    private final List<ListenerSchedule> schedules = new CopyOnWriteArrayList<>();
     private volatile boolean running = true;
     private SeleniumManager seleniumManager;
+    private final ActionWatchdog actionWatchdog;
 
     /**
      * Constructs a new ListenerThreadManager with the specified SeleniumManager.
      * This manager will handle the execution of the listeners.
      *
      * @param seleniumManager the SeleniumManager instance that may be used for actions within the listeners.
+     * @param actionWatchdog  the watchdog that enforces the time budget of the checkups.
      */
-    public ListenerThreadManager(SeleniumManager seleniumManager) {
+    public ListenerThreadManager(SeleniumManager seleniumManager, ActionWatchdog actionWatchdog) {
         this.seleniumManager = seleniumManager;
-        this.listeners = new ArrayList<>();
+        this.actionWatchdog = actionWatchdog;
     }
 
     /**
-     * Adds a listener to the list of listeners. This method is synchronized to ensure thread-safety when adding listeners.
+     * Adds a listener to the list of listeners. The first checkup of the listener is due immediately.
+     * This method can be called from any thread.
      *
      * @param listener the listener to be added to the list.
      */
-    public synchronized void addListener(Listener listener) {
-        listeners.add(listener);
+    public void addListener(Listener listener) {
+        schedules.add(new ListenerSchedule(listener));
+        synchronized (schedules) {
+            schedules.notifyAll();
+        }
     }
 
     /**
-     * Stops the listener thread by setting the running flag to false and interrupting the thread.
-     * This will terminate the execution of the listener checks.
+     * Stops the listener thread by setting the running flag to false and waking the thread.
+     * A checkup that is running right now is finished. To end it early, cancel its {@link CancellationToken}.
      */
     public void stopManager() {
         logger.info("Stopping ListenerThreadManager!");
         running = false;
-        this.interrupt();
+        synchronized (schedules) {
+            schedules.notifyAll();
+        }
     }
 
     /**
-     * Runs the thread that continuously checks each registered listener.
-     * It invokes the {@link Listener#runCheckup()} method for each listener and waits for a defined period before repeating.
-     * If no listeners are registered, the thread will wait for 30 seconds before checking again.
+     * Runs the thread that checks the registered listeners when they are due.
+     * It invokes the {@link Listener#runCheckup()} method of the listener that is due next and adapts its interval to
+     * the result. While an action is handled, the checkup is postponed. If no listeners are registered, the thread
+     * waits until one is added.
      */
     @Override
     public void run() {
         while (running) {
-            if (!this.listeners.isEmpty()) {
-                if (!checkingActionQueue()) {
-                    for (Listener listener : this.listeners) {
-                        logger.info("Running Checkup for Listener: {}", listener.getName());
-                        listener.runCheckup();
-                        try {
-                            // Sleep for 2 second between checks
-                            Thread.sleep(10000);
-                        } catch (InterruptedException e) {
-                            throw new RuntimeException(e);
-                        }
-                    }
-                    logger.info("After hard work, programm is getting sleepy for a few secs");
-                    try {
-                        Thread.sleep(20000);
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException(e);
-                    }
-                } else {
-                    logger.info("Humanizer was blocking the Queue. Mostly happens if Actions are up!");
-                    try {
-                        Thread.sleep(10000);
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException(e);
-                    }
+            ListenerSchedule next = getNextSchedule();
+            if (next == null) {
+                logger.info("No Listener found. Getting sleepyyy!");
+                waitFor(IDLE_WAIT);
+                continue;
+            }
+            long delay = next.nextRun - System.currentTimeMillis();
+            if (delay > 0) {
+                waitFor(delay);
+                continue;
+            }
+            if (!running) {
+                break;
+            }
+            if (checkingActionQueue()) {
+                logger.info("Humanizer was blocking the Queue. Mostly happens if Actions are up!");
+                next.nextRun = System.currentTimeMillis() + ACTION_BACKOFF;
+                continue;
+            }
+            logger.info("Running Checkup for Listener: {}", next.listener.getName());
+            next.reschedule(runCheckup(next.listener));
+            logger.info("Next Checkup for Listener {} in {} secs.", next.listener.getName(), next.interval / 1000);
+        }
+    }
+
+    /**
+     * Returns the schedule of the listener that is due next.
+     *
+     * @return the schedule with the earliest next run, or {@code null} if no listener is registered.
+     */
+    private ListenerSchedule getNextSchedule() {
+        ListenerSchedule next = null;
+        for (ListenerSchedule schedule : schedules) {
+            if (next == null || schedule.nextRun < next.nextRun) {
+                next = schedule;
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Waits for the given time or until a listener is added.
+     *
+     * @param millis the maximum time to wait in milliseconds.
+     */
+    private void waitFor(long millis) {
+        synchronized (schedules) {
+            try {
+                schedules.wait(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Runs the checkup of a single listener while the browser is leased to this thread.
+     * A failing listener does not stop the thread.
+     * If the checkup failed because the browser session died, the session is recovered before the next checkup.
+     * The checkup runs with its own {@link CancellationToken}, a child of the root token, and is cancelled by the
+     * {@link ActionWatchdog} when it takes longer than the time budget of the listener.
+     *
+     * @param listener the listener to check.
+     * @return {@code true} if the listener found activity, {@code false} if it was idle or failed.
+     */
+    private boolean runCheckup(Listener listener) {
+        CancellationToken token = CancellationToken.root().child();
+        CancellationToken.Scope scope = token.bind();
+        try (token; scope; DriverLease.Lease lease = seleniumManager.getDriverLease().acquire(listener.getName())) {
+            ActionWatchdog.Watch watch = actionWatchdog.watch(listener.getName(), token, listener.getTimeBudget());
+            try {
+                if (!lease.getWaitTime().isZero()) {
+                    logger.info("Listener {} waited {} ms for the browser.", listener.getName(), lease.getWaitTime().toMillis());
                 }
-            } else {
+                return listener.runCheckup();
+            } finally {
+                watch.close();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (SeleniagramCancelledException e) {
+            logger.info("Listener {} was cancelled: {}", listener.getName(), e.getMessage());
+        } catch (WebDriverException e) {
+            logger.error("Listener {} failed: {}", listener.getName(), e.getMessage());
+            if (!token.isCancelled() && !seleniumManager.isSessionAlive()) {
                 try {
-                    logger.info("No Listener found. Getting sleepyyy!");
-                    Thread.sleep(30000);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
+                    seleniumManager.recover();
+                } catch (WebDriverException ex) {
+                    logger.error("Can't recover WebDriver session: {}", ex.getMessage());
                 }
             }
+        } catch (RuntimeException e) {
+            logger.error("Listener {} failed: {}", listener.getName(), e.getMessage(), e);
         }
+        return false;
     }
 
     /**
@@ -123,4 +205,40 @@ public class ListenerThreadManager extends Thread implements HumanizerTools {
     public SeleniumManager getSeleniumManager() {
         return seleniumManager;
     }
+
+    /**
+     * The schedule of a single listener.
+     */
+    private static final class ListenerSchedule {
+
+        private final Listener listener;
+        private final long minInterval;
+        private final long maxInterval;
+        private volatile long interval;
+        private volatile long nextRun;
+
+        /**
+         * Constructs the schedule of a listener, starting with its minimum interval and an immediate first checkup.
+         *
+         * @param listener the scheduled listener.
+         */
+        private ListenerSchedule(Listener listener) {
+            this.listener = listener;
+            this.minInterval = listener.getMinInterval().toMillis();
+            this.maxInterval = Math.max(minInterval, listener.getMaxInterval().toMillis());
+            this.interval = minInterval;
+            this.nextRun = System.currentTimeMillis();
+        }
+
+        /**
+         * Adapts the interval to the result of the last checkup and schedules the next one.
+         * Activity resets the interval to the minimum, an idle checkup doubles it up to the maximum.
+         *
+         * @param active whether the last checkup found activity.
+         */
+        private void reschedule(boolean active) {
+            interval = active ? minInterval : Math.min(interval * 2, maxInterval);
+            nextRun = System.currentTimeMillis() + interval;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,233 @@
+package eu.hobbydev.bracheus.manager;
+
+
+import eu.hobbydev.bracheus.classes.InstaUser;
+import eu.hobbydev.bracheus.classes.StatsHistory;
+import eu.hobbydev.bracheus.interfaces.User;
+import eu.hobbydev.bracheus.interfaces.UserStorage;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The ObjectUserStorage class stores the known users as {@link InstaUser} snapshots in a {@link ConcurrentHashMap}
+ * keyed by username, the follow status as a concurrent set of usernames, and the stats histories in a second map.
+ * <p>
+ * This is the default storage of the {@link UserManager}. Reads never lock and return the stored snapshot itself.
+ * For very large sets of tracked users, {@link CompactUserStorage} needs a fraction of the heap.
+ * </p>
+ *
+ * <p>Changes of different users run concurrently; they share the read side of a lock whose write side is taken by
+ * {@link #blockingWrites(Runnable)}, so a snapshot of the users waits until every running change is visible.</p>
+ */
+public class ObjectUserStorage implements UserStorage {
+
+    private final Map<String, InstaUser> users = new ConcurrentHashMap<>();
+    private final Set<String> followed = ConcurrentHashMap.newKeySet();
+    private final Map<String, StatsHistory> histories = new ConcurrentHashMap<>();
+    private final ReadWriteLock barrier = new ReentrantReadWriteLock();
+
+    /**
+     * Retrieves the snapshot of a known user.
+     *
+     * @param username the username of the user.
+     * @return the published snapshot, or {@code null} if the user is not known.
+     */
+    @Override
+    public InstaUser get(String username) {
+        return users.get(username);
+    }
+
+    /**
+     * Retrieves a read-only view of a known user. The snapshot is the view.
+     *
+     * @param username the username of the user.
+     * @return the snapshot, or {@code null} if the user is not known.
+     */
+    @Override
+    public User view(String username) {
+        return users.get(username);
+    }
+
+    /**
+     * Atomically computes the new snapshot of a user with {@link ConcurrentHashMap#compute}.
+     *
+     * @param username  the username of the user.
+     * @param remapping the function computing the new snapshot.
+     * @return the stored snapshot, or {@code null} if the user is not known afterwards.
+     */
+    @Override
+    public InstaUser compute(String username, BiFunction<String, InstaUser, InstaUser> remapping) {
+        barrier.readLock().lock();
+        try {
+            return users.compute(username, (key, current) -> {
+                InstaUser next = remapping.apply(key, current);
+                if (next == null) {
+                    followed.remove(key);
+                    histories.remove(key);
+                }
+                return next;
+            });
+        } finally {
+            barrier.readLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether a user is known.
+     *
+     * @param username the username of the user.
+     * @return {@code true} if the user is known.
+     */
+    @Override
+    public boolean contains(String username) {
+        return users.containsKey(username);
+    }
+
+    /**
+     * Checks whether a user is followed.
+     *
+     * @param username the username of the user.
+     * @return {@code true} if the user is followed.
+     */
+    @Override
+    public boolean isFollowed(String username) {
+        return followed.contains(username);
+    }
+
+    /**
+     * Sets the follow status of a known user.
+     *
+     * @param username the username of the user.
+     * @param follow   the new follow status.
+     * @return {@code true} if the follow status changed.
+     */
+    @Override
+    public boolean setFollowed(String username, boolean follow) {
+        barrier.readLock().lock();
+        try {
+            if (!follow) {
+                return followed.remove(username);
+            }
+            return users.containsKey(username) && followed.add(username);
+        } finally {
+            barrier.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the stats history of a known user.
+     *
+     * @param username the username of the user.
+     * @return the live history, or {@code null} if the user is not known or has no history yet.
+     */
+    @Override
+    public StatsHistory getStatsHistory(String username) {
+        return histories.get(username);
+    }
+
+    /**
+     * Atomically updates the stats history of a known user. The entry of the user is locked meanwhile, so the user
+     * cannot be removed concurrently.
+     *
+     * @param username the username of the user.
+     * @param update   the function updating the history.
+     * @return the new history, or {@code null} if the user is not known.
+     */
+    @Override
+    public StatsHistory updateStatsHistory(String username, UnaryOperator<StatsHistory> update) {
+        StatsHistory[] updated = new StatsHistory[1];
+        barrier.readLock().lock();
+        try {
+            users.computeIfPresent(username, (key, user) -> {
+                updated[0] = histories.compute(key, (name, history) -> update.apply(history));
+                return user;
+            });
+        } finally {
+            barrier.readLock().unlock();
+        }
+        return updated[0];
+    }
+
+    /**
+     * Calls the given action for the stats history of every known user that has one.
+     *
+     * @param action the action receiving the username and the history.
+     */
+    @Override
+    public void forEachStatsHistory(BiConsumer<String, StatsHistory> action) {
+        histories.forEach(action);
+    }
+
+    /**
+     * Returns all known users.
+     *
+     * @return an unmodifiable live view of the snapshots.
+     */
+    @Override
+    public Collection<InstaUser> values() {
+        return Collections.unmodifiableCollection(users.values());
+    }
+
+    /**
+     * Returns the number of known users.
+     *
+     * @return the number of known users.
+     */
+    @Override
+    public int size() {
+        return users.size();
+    }
+
+    /**
+     * Returns the number of followed users.
+     *
+     * @return the number of followed users.
+     */
+    @Override
+    public int followedCount() {
+        return followed.size();
+    }
+
+    /**
+     * Runs the given task while holding the write side of the barrier, so it waits for running changes and blocks
+     * new ones until it is done.
+     *
+     * @param task the task to run.
+     */
+    @Override
+    public void blockingWrites(Runnable task) {
+        barrier.writeLock().lock();
+        try {
+            task.run();
+        } finally {
+            barrier.writeLock().unlock();
+        }
+    }
+}
@@ -9,6 +9,11 @@ import com.openai.models.responses.ResponseCreateParams;
 import eu.hobbydev.bracheus.Seleniagram;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 /**
  * Copyright (C) 2025 Bracheus
@@ -42,15 +47,19 @@ import java.util.List;
 public class OpenAIManager {
 
     private final OpenAIClient openAIClient;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
 
     /**
      * Constructs an `OpenAIManager` instance with the specified API key.
      *
-     * @param apiKey the API key used to authenticate with the OpenAI API.
+     * @param apiKey      the API key used to authenticate with the OpenAI API.
+     * @param concurrency the maximum number of requests {@link #answerMessagesAsync(List)} runs at the same time.
      * @throws IllegalArgumentException if the API key is null or invalid.
      */
-    public OpenAIManager(String apiKey) {
+    public OpenAIManager(String apiKey, int concurrency) {
         this.openAIClient = new OpenAIOkHttpClient.Builder().apiKey(apiKey).build();
+        this.permits = new Semaphore(Math.max(1, concurrency), true);
     }
 
     /**
@@ -80,6 +89,40 @@ public class OpenAIManager {
         return response.output().get(0).asMessage().content().get(0).asOutputText().text();
     }
 
+    /**
+     * Generates a response for a list of given messages without blocking the caller.
+     * <p>
+     * The request runs on a virtual thread. At most the configured number of requests run at the same time,
+     * further requests wait for a free slot. So the replies for several conversations can be requested at once
+     * and take about as long as a single request.
+     *
+     * @param nachrichten a list of messages (e.g., comments or text) that need responses.
+     * @return a future completed with the generated response, or completed exceptionally if the request failed.
+     */
+    public CompletableFuture<String> answerMessagesAsync(List<String> nachrichten) {
+        List<String> messages = List.copyOf(nachrichten);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            try {
+                return answerMessages(messages);
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    /**
+     * Stops accepting new asynchronous requests. Requests that are already running are completed.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
     /**
      * Gets the OpenAI client instance used for making requests to the OpenAI API.
      *
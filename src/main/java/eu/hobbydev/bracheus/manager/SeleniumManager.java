@@ -1,13 +1,35 @@
 package eu.hobbydev.bracheus.manager;
 
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import eu.hobbydev.bracheus.Seleniagram;
+import eu.hobbydev.bracheus.exceptions.SeleniagramCancelledException;
 import eu.hobbydev.bracheus.exceptions.SeleniagramNoSuchElementException;
 import eu.hobbydev.bracheus.settings.SeleniagramChrome;
+import eu.hobbydev.bracheus.settings.SeleniagramResourceFilter;
+import eu.hobbydev.bracheus.utils.CancellationToken;
 import org.openqa.selenium.*;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Copyright (C) 2025 Bracheus
@@ -36,13 +58,55 @@ import java.util.List;
  */
 public class SeleniumManager {
 
-    private WebDriver seleniumDriver;
+    /**
+     * Resolves every XPath of the given name-to-XPath object inside the page and returns an object
+     * that maps each name to its first matching node. Names without a match are left out.
+     */
+    private static final String BATCH_XPATH_SCRIPT =
+            "var locators = arguments[0];" +
+            "var result = {};" +
+            "for (var name in locators) {" +
+            "  var node = document.evaluate(locators[name], document, null," +
+            "      XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "  if (node) { result[name] = node; }" +
+            "}" +
+            "return result;";
+
+    /**
+     * Returns the number of resources the page has requested so far.
+     * The resource timing buffer of the browser stops at 250 entries, after which the count would never change
+     * again. The script therefore adds the buffered entries to a running total kept in the page and clears the
+     * buffer, so it never fills up between two polls.
+     */
+    private static final String RESOURCE_COUNT_SCRIPT =
+            "var p = window.performance;"
+                    + "if (!p || !p.getEntriesByType) { return 0; }"
+                    + "var total = (window.__seleniagramResources || 0) + p.getEntriesByType('resource').length;"
+                    + "if (p.clearResourceTimings) { p.clearResourceTimings(); }"
+                    + "window.__seleniagramResources = total;"
+                    + "return total;";
+
+    private static final Duration POLLING_INTERVAL = Duration.ofMillis(100);
+
+    // Longest time stopping waits for a standby browser that is still booting, so it can be quit.
+    private static final Duration STANDBY_STOP_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Logger logger = LoggerFactory.getLogger(SeleniumManager.class);
+    private volatile WebDriver seleniumDriver;
+    private volatile boolean resourceFilterApplied = false;
+    private CompletableFuture<WebDriver> standbyDriver;
+    private int profileSlot = 0;
+    private final AtomicBoolean loginRequired = new AtomicBoolean(false);
+    private volatile long sessionGeneration = 0;
+    private final DriverLease driverLease = new DriverLease();
 
     /**
      * Starts the Selenium WebDriver.
      * If the WebDriver is not already initialized, it calls the setup method to initialize it.
      */
-    public void start() {
+    public synchronized void start() {
         if (seleniumDriver == null) {
             setup();
         }
@@ -50,40 +114,261 @@ public class SeleniumManager {
 
     /**
      * Sets up the Selenium WebDriver with ChromeOptions for browser configuration.
-     * Configures the WebDriver with options such as headless mode, user-agent, and other settings.
-     * Initializes the WebDriver instance with these options.
+     * Configures the WebDriver with the launch profile of the configuration, such as headless mode,
+     * process and memory limits, user-agent, and other settings.
+     * Initializes the WebDriver instance with these options and boots the standby browser if it is enabled.
      */
     private void setup() {
-        ChromeOptions chromeOptions = SeleniagramChrome.getChromeOptions();
-        seleniumDriver = new ChromeDriver(chromeOptions);
+        seleniumDriver = createDriver(profileSlot);
+        resourceFilterApplied = false;
+        applyResourceFilter();
+        bootStandby();
     }
 
     /**
-     * Stops the Selenium WebDriver session.
+     * Creates a new WebDriver using the Chrome profile directory of the given slot.
+     *
+     * @param slot the profile slot, 0 for the primary and 1 for the standby profile directory.
+     * @return the new WebDriver.
+     */
+    private WebDriver createDriver(int slot) {
+        ChromeOptions chromeOptions = SeleniagramChrome.getChromeOptions(Seleniagram.configurationHolder, slot);
+        WebDriver driver = new ChromeDriver(chromeOptions);
+        // Lookups never wait implicitly, waiting is always explicit.
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        // A page or script that never finishes fails the command instead of blocking the thread.
+        driver.manage().timeouts().pageLoadTimeout(Duration.ofMillis(Seleniagram.configurationHolder.getPageLoadTimeout()));
+        driver.manage().timeouts().scriptTimeout(Duration.ofMillis(Seleniagram.configurationHolder.getScriptTimeout()));
+        return driver;
+    }
+
+    /**
+     * Boots a standby browser in the background if it is enabled in the configuration.
+     * The standby browser uses the other profile directory, because a profile can only be used by one Chrome.
+     */
+    private void bootStandby() {
+        if (!Seleniagram.configurationHolder.isStandbyDriver() || standbyDriver != null) {
+            return;
+        }
+        int slot = 1 - profileSlot;
+        standbyDriver = CompletableFuture.supplyAsync(() -> createDriver(slot),
+                command -> Thread.ofVirtual().name("StandbyDriver").start(command));
+        standbyDriver.whenComplete((driver, throwable) -> {
+            if (throwable != null) {
+                logger.warn("Can't boot standby browser: {}", throwable.getMessage());
+            } else {
+                logger.info("Standby browser is ready.");
+            }
+        });
+    }
+
+    /**
+     * Checks whether the current WebDriver session still responds.
+     *
+     * @return {@code true} if the session is alive, {@code false} if the driver or the browser is gone.
+     */
+    public boolean isSessionAlive() {
+        return isAlive(seleniumDriver);
+    }
+
+    /**
+     * Returns the number of times the WebDriver session was replaced by {@link #recover()}.
+     * A caller that sees a different number after a failed command knows that its session was lost,
+     * even if someone else already recovered it.
+     *
+     * @return the generation of the current WebDriver session.
+     */
+    public long getSessionGeneration() {
+        return sessionGeneration;
+    }
+
+    /**
+     * Replaces a dead WebDriver session with a working one.
+     * <p>
+     * If a standby browser is ready, it takes over immediately and a new standby browser is booted in the background.
+     * Otherwise, a new browser is started. Nothing happens if the current session is still alive.
+     * The standby browser runs on its own profile, which holds no session, so a takeover requires a new login
+     * (see {@link #takeLoginRequired()}).
+     *
+     * @throws WebDriverException if no new browser can be started.
+     */
+    public synchronized void recover() {
+        if (isSessionAlive()) {
+            return;
+        }
+        logger.warn("WebDriver session is dead. Recovering!");
+        long start = System.nanoTime();
+        quitQuietly(seleniumDriver);
+        seleniumDriver = null;
+
+        WebDriver standby = takeStandby();
+        if (isAlive(standby)) {
+            seleniumDriver = standby;
+            profileSlot = 1 - profileSlot;
+            loginRequired.set(true);
+            logger.info("Standby browser took over. Login is needed!");
+        } else {
+            quitQuietly(standby);
+            seleniumDriver = createDriver(profileSlot);
+        }
+        sessionGeneration++;
+        resourceFilterApplied = false;
+        applyResourceFilter();
+        logger.info("Recovered WebDriver session in {} ms.", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        bootStandby();
+    }
+
+    /**
+     * Checks whether a standby browser took over since the last call and the session must be logged in again.
+     * The flag is cleared by this call, so only one caller queues the login.
+     *
+     * @return {@code true} if a login is needed before the next action, otherwise {@code false}.
+     */
+    public boolean takeLoginRequired() {
+        return loginRequired.getAndSet(false);
+    }
+
+    /**
+     * Takes the standby browser, waiting for it if it is still booting.
+     *
+     * @return the standby WebDriver, or {@code null} if there is none or it failed to boot.
+     */
+    private WebDriver takeStandby() {
+        CompletableFuture<WebDriver> standby = standbyDriver;
+        standbyDriver = null;
+        if (standby == null) {
+            return null;
+        }
+        try {
+            return standby.join();
+        } catch (CompletionException | CancellationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether the given WebDriver still responds.
+     *
+     * @param driver the WebDriver to check.
+     * @return {@code true} if the driver responds, otherwise {@code false}.
+     */
+    private static boolean isAlive(WebDriver driver) {
+        if (driver == null) {
+            return false;
+        }
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Quits the given WebDriver and ignores any failure, e.g. because the browser is already gone.
+     *
+     * @param driver the WebDriver to quit.
+     */
+    private void quitQuietly(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            logger.warn("Can't quit the browser cleanly: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Blocks the resources configured in the {@link eu.hobbydev.bracheus.interfaces.ConfigurationHolder},
+     * e.g. images, videos, fonts and third-party analytics, for all following navigations.
+     * <p>
+     * The blocked URL patterns are registered with the DevTools commands {@code Network.enable} and
+     * {@code Network.setBlockedURLs}, so the browser fails these requests without downloading them.
+     * The filter stays active for the browser session and is only sent once.
+     */
+    private void applyResourceFilter() {
+        if (resourceFilterApplied || !(getSeleniumDriver() instanceof HasCdp cdp)) {
+            return;
+        }
+        List<String> patterns = SeleniagramResourceFilter.getBlockedUrlPatterns(
+                Seleniagram.configurationHolder.getBlockedResourceTypes(),
+                Seleniagram.configurationHolder.getBlockedUrls());
+        resourceFilterApplied = true;
+        if (patterns.isEmpty()) {
+            return;
+        }
+        try {
+            cdp.executeCdpCommand("Network.enable", Map.of());
+            cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", patterns));
+            logger.info("Blocking {} resource patterns.", patterns.size());
+        } catch (WebDriverException e) {
+            logger.warn("Can't apply resource filter: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the Selenium WebDriver session and the standby browser.
      * If the WebDriver is initialized, it terminates the session and quits the browser.
+     * Quitting lets Chrome shut down cleanly, so cookies and storage are written to the profile directory
+     * and the session can be restored on the next start.
+     * A standby browser that is still booting is waited for, bounded by {@link #STANDBY_STOP_TIMEOUT}, so its
+     * Chrome and chromedriver do not outlive Seleniagram.
      */
-    public void stop() {
-        if (seleniumDriver != null) {
-            seleniumDriver.close();
-            seleniumDriver.quit();
+    public synchronized void stop() {
+        quitQuietly(seleniumDriver);
+        seleniumDriver = null;
+        CompletableFuture<WebDriver> standby = standbyDriver;
+        standbyDriver = null;
+        if (standby == null) {
+            return;
         }
+        try {
+            quitQuietly(standby.get(STANDBY_STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            standby.thenAccept(this::quitQuietly);
+            logger.warn("Interrupted while waiting for the standby browser to boot.");
+        } catch (java.util.concurrent.TimeoutException e) {
+            // Quits the standby browser if it still finishes booting before Seleniagram exits.
+            standby.thenAccept(this::quitQuietly);
+            logger.warn("Standby browser did not finish booting within {} s. It may outlive Seleniagram.",
+                    STANDBY_STOP_TIMEOUT.toSeconds());
+        } catch (ExecutionException | CancellationException e) {
+            // The standby browser failed to boot, there is nothing to quit.
+        }
+    }
+
+    /**
+     * Returns the lease that arbitrates the access to the browser between the action and the listener thread.
+     *
+     * @return the driver lease.
+     */
+    public DriverLease getDriverLease() {
+        return driverLease;
     }
 
     /**
      * Returns the current instance of the Selenium WebDriver.
+     * Every driver call goes through this method, so cancelled work stops before its next call.
      *
      * @return the Selenium WebDriver instance.
+     * @throws SeleniagramCancelledException if the running work was cancelled.
      */
     private WebDriver getSeleniumDriver() {
+        CancellationToken.current().throwIfCancelled();
         return seleniumDriver;
     }
 
     /**
      * Opens the specified URL in the current WebDriver instance.
+     * The configured resource filter is applied before the navigation.
      *
      * @param url the URL to open.
      */
     public void open(String url) {
+        applyResourceFilter();
         getSeleniumDriver().get(url);
     }
 
@@ -359,6 +644,17 @@ public class SeleniumManager {
         return webElement;
     }
 
+    /**
+     * Checks whether the browser holds a cookie with the given name for the current page.
+     * This needs no access to the page content and costs a single WebDriver round trip.
+     *
+     * @param name the name of the cookie.
+     * @return {@code true} if the cookie exists, otherwise {@code false}.
+     */
+    public boolean hasCookie(String name) {
+        return getSeleniumDriver().manage().getCookieNamed(name) != null;
+    }
+
     /**
      * Retrieves the current URL of the web page that the Selenium WebDriver is currently on.
      *
@@ -447,6 +743,31 @@ public class SeleniumManager {
         return getJavaScJavascriptExecutor().executeScript(script, args);
     }
 
+    /**
+     * Executes a JavaScript command that returns a JSON string and deserializes the result.
+     * <p>
+     * This allows structured data to be extracted from the page with a single WebDriver round trip,
+     * instead of reading every value with its own {@code findElement} and {@code getText} call.
+     *
+     * @param script the JavaScript script to execute. It must return a JSON string.
+     * @param type   the class the JSON result is deserialized into.
+     * @param args   optional arguments for the script.
+     * @param <T>    the type of the deserialized result.
+     * @return the deserialized result, or {@code null} if the script returned nothing.
+     * @throws IllegalStateException if the returned string is not valid JSON for the given type.
+     */
+    public <T> T executeJavascriptForJson(String script, Class<T> type, Object... args) {
+        Object result = executeJavascript(script, args);
+        if (result == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(result.toString(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Can't read script result as " + type.getSimpleName() + ": " + result, e);
+        }
+    }
+
     /**
      * Finds a list of web elements based on the provided XPath expression.
      * <p>
@@ -471,4 +792,248 @@ public class SeleniumManager {
         return webElements;
     }
 
-}
\ No newline at end of file
+    /**
+     * Resolves several named XPath locators with a single WebDriver round trip.
+     * <p>
+     * Instead of issuing one {@code findElement} call per locator, all XPath expressions are evaluated
+     * by one JavaScript execution inside the page. Every name whose XPath matched is mapped to the first
+     * matching element; names without a match are absent from the returned map.
+     *
+     * @param xPaths a map of names to the XPath expressions used to locate the elements.
+     * @return a map of names to the {@link WebElement}s found, in the iteration order of the given map.
+     */
+    public Map<String, WebElement> findElementsByXpaths(Map<String, String> xPaths) {
+        Map<String, WebElement> webElements = new LinkedHashMap<>();
+        if (xPaths.isEmpty()) {
+            return webElements;
+        }
+        Object result = executeJavascript(BATCH_XPATH_SCRIPT, xPaths);
+        if (result instanceof Map<?, ?> found) {
+            for (String name : xPaths.keySet()) {
+                if (found.get(name) instanceof WebElement webElement) {
+                    webElements.put(name, webElement);
+                }
+            }
+        }
+        return webElements;
+    }
+
+    /**
+     * Waits until the given condition holds or the timeout expires.
+     * <p>
+     * The condition is polled every 100 milliseconds. A timeout is not treated as an error,
+     * the caller decides how to continue. The wait ends early if the running work is cancelled.
+     *
+     * @param condition the condition to wait for.
+     * @param timeout   the maximum time to wait.
+     * @return {@code true} if the condition holds, {@code false} if the timeout expired first.
+     * @throws SeleniagramCancelledException if the running work was cancelled while waiting.
+     */
+    public boolean waitUntil(ExpectedCondition<?> condition, Duration timeout) {
+        if (timeout.isNegative() || timeout.isZero()) {
+            return false;
+        }
+        CancellationToken token = CancellationToken.current();
+        WebDriverWait wait = new WebDriverWait(getSeleniumDriver(), timeout, POLLING_INTERVAL);
+        try {
+            wait.until(driver -> {
+                token.throwIfCancelled();
+                return condition.apply(driver);
+            });
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (WebDriverException e) {
+            // An interrupted wait ends with a WebDriverException.
+            token.throwIfCancelled();
+            throw e;
+        }
+    }
+
+    /**
+     * Waits until the current document has finished loading ({@code document.readyState} is {@code complete}).
+     *
+     * @param timeout the maximum time to wait.
+     * @return {@code true} if the document is ready, {@code false} if the timeout expired first.
+     */
+    public boolean waitForPageReady(Duration timeout) {
+        return waitUntil(driver -> "complete".equals(
+                ((JavascriptExecutor) driver).executeScript("return document.readyState;")), timeout);
+    }
+
+    /**
+     * Waits until the page stops requesting resources.
+     * <p>
+     * The network counts as idle once the number of requested resources has not changed
+     * for the given quiet period.
+     *
+     * @param timeout     the maximum time to wait.
+     * @param quietPeriod the time without new requests after which the network counts as idle.
+     * @return {@code true} if the network is idle, {@code false} if the timeout expired first.
+     */
+    public boolean waitForNetworkIdle(Duration timeout, Duration quietPeriod) {
+        long[] lastCount = {-1};
+        long[] lastChange = {System.nanoTime()};
+        return waitUntil(driver -> {
+            long count = ((Number) ((JavascriptExecutor) driver).executeScript(RESOURCE_COUNT_SCRIPT)).longValue();
+            long now = System.nanoTime();
+            if (count != lastCount[0]) {
+                lastCount[0] = count;
+                lastChange[0] = now;
+                return false;
+            }
+            return now - lastChange[0] >= quietPeriod.toNanos();
+        }, timeout);
+    }
+
+    /**
+     * Waits until an element matching the given XPath is present in the page.
+     *
+     * @param xPath   the XPath of the element to wait for.
+     * @param timeout the maximum time to wait.
+     * @return {@code true} if the element is present, {@code false} if the timeout expired first.
+     */
+    public boolean waitForElement(String xPath, Duration timeout) {
+        return waitUntil(ExpectedConditions.presenceOfElementLocated(By.xpath(xPath)), timeout);
+    }
+
+    /**
+     * Waits until an element matching the given XPath is visible and enabled, so it can be clicked.
+     *
+     * @param xPath   the XPath of the element to wait for.
+     * @param timeout the maximum time to wait.
+     * @return {@code true} if the element is clickable, {@code false} if the timeout expired first.
+     */
+    public boolean waitForClickable(String xPath, Duration timeout) {
+        return waitUntil(ExpectedConditions.elementToBeClickable(By.xpath(xPath)), timeout);
+    }
+
+    /**
+     * Waits until the current URL differs from the given URL, e.g. after submitting a form.
+     *
+     * @param previousUrl the URL the browser was on before the navigation.
+     * @param timeout     the maximum time to wait.
+     * @return {@code true} if the URL changed, {@code false} if the timeout expired first.
+     */
+    public boolean waitForUrlChange(String previousUrl, Duration timeout) {
+        return waitUntil(ExpectedConditions.not(ExpectedConditions.urlToBe(previousUrl)), timeout);
+    }
+
+    /**
+     * Enters the whole text into the given element at once.
+     * <p>
+     * The element is focused and the text is inserted with the Chrome DevTools command {@code Input.insertText},
+     * which costs one WebDriver round trip regardless of the text length and also handles characters such as emojis
+     * that ChromeDriver cannot type. If the driver does not support DevTools commands, the text is sent with a single
+     * {@link WebElement#sendKeys(CharSequence...)} call instead.
+     *
+     * @param element the element to enter the text into.
+     * @param text    the text to enter.
+     */
+    public void insertText(WebElement element, String text) {
+        if (text.isEmpty()) {
+            return;
+        }
+        if (getSeleniumDriver() instanceof HasCdp cdp) {
+            executeJavascript("arguments[0].focus();", element);
+            cdp.executeCdpCommand("Input.insertText", Map.of("text", text));
+            return;
+        }
+        element.sendKeys(text);
+    }
+
+    /**
+     * Enters the text into the given element character by character, with one WebDriver command per character.
+     *
+     * @param element the element to enter the text into.
+     * @param text    the text to enter.
+     */
+    public void typeText(WebElement element, String text) {
+        typeText(element, text, () -> {
+        });
+    }
+
+    /**
+     * Enters the text into the given element character by character, pausing after each character.
+     *
+     * @param element the element to enter the text into.
+     * @param text    the text to enter.
+     * @param pause   the action executed after each character, e.g. a humanized delay.
+     */
+    public void typeText(WebElement element, String text, Runnable pause) {
+        for (char c : text.toCharArray()) {
+            element.sendKeys(String.valueOf(c));
+            pause.run();
+        }
+    }
+
+    /**
+     * Probes the page for an element matching the given XPath.
+     * <p>
+     * Unlike the {@code find} methods, a missing element is an ordinary result and does not throw an exception.
+     * The probe is based on {@code findElements} and never waits, because the implicit wait is always zero.
+     *
+     * @param xPath the XPath of the element to probe for.
+     * @return the first matching element, or an empty {@link Optional} if there is none.
+     */
+    public Optional<WebElement> probeByXpath(String xPath) {
+        return probeByXpath(getSeleniumDriver(), xPath);
+    }
+
+    /**
+     * Probes the given search context, e.g. a parent element, for an element matching the given XPath.
+     * A relative XPath (starting with {@code .}) is evaluated relative to the context.
+     *
+     * @param context the search context to probe in.
+     * @param xPath   the XPath of the element to probe for.
+     * @return the first matching element, or an empty {@link Optional} if there is none.
+     */
+    public Optional<WebElement> probeByXpath(SearchContext context, String xPath) {
+        List<WebElement> webElements = context.findElements(By.xpath(xPath));
+        if (webElements.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(webElements.getFirst());
+    }
+
+    /**
+     * Probes the page for a span element by its text content.
+     *
+     * @param text the text content of the span element to probe for.
+     * @return the span, or an empty {@link Optional} if there is none.
+     */
+    public Optional<WebElement> probeSpanByText(String text) {
+        return probeByXpath("//span[text()='" + text + "']");
+    }
+
+    /**
+     * Probes the page for a div element by its text content.
+     *
+     * @param text the text content of the div element to probe for.
+     * @return the div, or an empty {@link Optional} if there is none.
+     */
+    public Optional<WebElement> probeDivByText(String text) {
+        return probeByXpath("//div[text()='" + text + "']");
+    }
+
+    /**
+     * Probes the page for a button element by its visible text.
+     *
+     * @param text the visible text of the button.
+     * @return the button, or an empty {@link Optional} if there is none.
+     */
+    public Optional<WebElement> probeButtonByText(String text) {
+        return probeByXpath("//button[text()='" + text + "']");
+    }
+
+    /**
+     * Probes the page for an input element by its placeholder text.
+     *
+     * @param placeholder the placeholder text of the input element to probe for.
+     * @return the input, or an empty {@link Optional} if there is none.
+     */
+    public Optional<WebElement> probeInputByPlaceholder(String placeholder) {
+        return probeByXpath("//input[@placeholder='" + placeholder + "']");
+    }
+
+}
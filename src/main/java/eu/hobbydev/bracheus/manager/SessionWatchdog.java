@@ -0,0 +1,90 @@
+package eu.hobbydev.bracheus.manager;
+
+
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The SessionWatchdog class checks the health of the browser session in a fixed interval.
+ * <p>
+ * If Chrome crashed or the WebDriver session was lost, the watchdog replaces the session through
+ * {@link SeleniumManager#recover()} before the next action or listener runs into it. When a standby browser is enabled,
+ * the replacement only takes as long as the swap to the already running standby.
+ * </p>
+ *
+ * <p>The watchdog runs as a daemon thread and can be stopped by invoking the stopWatchdog method.</p>
+ */
+public final class SessionWatchdog extends Thread {
+
+    private final Logger logger = LoggerFactory.getLogger(SessionWatchdog.class);
+    private final SeleniumManager seleniumManager;
+    private final long interval;
+    private volatile boolean running = true;
+
+    /**
+     * Constructs a new SessionWatchdog for the given SeleniumManager.
+     *
+     * @param seleniumManager the SeleniumManager whose session is checked.
+     * @param interval        the time in milliseconds between two health checks.
+     */
+    public SessionWatchdog(SeleniumManager seleniumManager, long interval) {
+        super("SessionWatchdog");
+        this.seleniumManager = seleniumManager;
+        this.interval = interval;
+        setDaemon(true);
+    }
+
+    /**
+     * Runs the health check until the stopWatchdog method is called.
+     * The session is only checked while the browser is not leased, so the check never interferes with an action or
+     * a listener. A dead session is recovered, a failed recovery is retried with the next check.
+     */
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            // A leased browser is checked by its holder, which recovers the session itself when a command fails.
+            try (DriverLease.Lease lease = seleniumManager.getDriverLease().tryAcquire(getName())) {
+                if (lease == null || !running || seleniumManager.isSessionAlive()) {
+                    continue;
+                }
+                seleniumManager.recover();
+            } catch (WebDriverException e) {
+                logger.error("Can't recover WebDriver session: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Stops the watchdog by setting the running flag to false and interrupting the thread.
+     */
+    public void stopWatchdog() {
+        logger.info("Stopping SessionWatchdog!");
+        running = false;
+        this.interrupt();
+    }
+}
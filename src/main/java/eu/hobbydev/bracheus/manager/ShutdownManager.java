@@ -0,0 +1,184 @@
+package eu.hobbydev.bracheus.manager;
+
+
+import eu.hobbydev.bracheus.utils.CancellationToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The ShutdownManager class stops all parts of Seleniagram in order and within a bounded time.
+ * <p>
+ * A shutdown first stops the timers and lets the action and listener threads finish the work they are doing,
+ * without starting new work. Waiting actions are cancelled. Work that is still running when the drain timeout expires
+ * is cancelled through the root {@link CancellationToken} and by interrupting its thread, which ends every wait
+ * immediately. Then the known users are compacted into the user snapshot, and finally the browser is quit, so Chrome
+ * is never left running.
+ * </p>
+ *
+ * <p>The shutdown runs only once, no matter whether it is requested by the console, by an action or by the JVM
+ * shutdown hook. Later requests wait for the running shutdown.</p>
+ */
+public class ShutdownManager {
+
+    // Time the threads get to end after they were cancelled.
+    private static final long CANCEL_GRACE = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(ShutdownManager.class);
+    private final ActionThreadManager actionThreadManager;
+    private final ListenerThreadManager listenerThreadManager;
+    private final TimerWheelManager timerWheelManager;
+    private final SessionWatchdog sessionWatchdog;
+    private final SeleniumManager seleniumManager;
+    private final OpenAIManager openAIManager;
+    private final UserStore userStore;
+    private final Duration drainTimeout;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+
+    /**
+     * Constructs a new ShutdownManager for the given parts of Seleniagram.
+     *
+     * @param actionThreadManager   the thread handling the actions.
+     * @param listenerThreadManager the thread running the listeners.
+     * @param timerWheelManager     the scheduler of delayed and recurring actions.
+     * @param sessionWatchdog       the health check of the browser session.
+     * @param seleniumManager       the manager of the browser.
+     * @param openAIManager         the manager of the OpenAI requests.
+     * @param userStore             the store of the known users, or {@code null} if they are not stored.
+     * @param drainTimeout          the time running work gets to finish before it is cancelled.
+     */
+    public ShutdownManager(ActionThreadManager actionThreadManager, ListenerThreadManager listenerThreadManager,
+                           TimerWheelManager timerWheelManager, SessionWatchdog sessionWatchdog,
+                           SeleniumManager seleniumManager, OpenAIManager openAIManager, UserStore userStore,
+                           Duration drainTimeout) {
+        this.actionThreadManager = actionThreadManager;
+        this.listenerThreadManager = listenerThreadManager;
+        this.timerWheelManager = timerWheelManager;
+        this.sessionWatchdog = sessionWatchdog;
+        this.seleniumManager = seleniumManager;
+        this.openAIManager = openAIManager;
+        this.userStore = userStore;
+        this.drainTimeout = drainTimeout;
+    }
+
+    /**
+     * Starts the shutdown on a separate thread and returns immediately.
+     * This is used by actions, which run on a thread the shutdown waits for.
+     *
+     * @param reason the reason of the shutdown, used for logging.
+     */
+    public void requestShutdown(String reason) {
+        if (started.get()) {
+            return;
+        }
+        Thread thread = new Thread(() -> shutdown(reason), "Shutdown");
+        thread.start();
+    }
+
+    /**
+     * Shuts Seleniagram down and returns when it is done. If a shutdown is already running, this method waits for it.
+     *
+     * @param reason the reason of the shutdown, used for logging.
+     */
+    public void shutdown(String reason) {
+        if (!started.compareAndSet(false, true)) {
+            awaitTermination();
+            return;
+        }
+        long start = System.nanoTime();
+        logger.info("Shutting down: {}", reason);
+        try {
+            timerWheelManager.stopWheel();
+            listenerThreadManager.stopManager();
+            actionThreadManager.stopThread();
+
+            long deadline = System.nanoTime() + drainTimeout.toNanos();
+            boolean drained = join(actionThreadManager, deadline) & join(listenerThreadManager, deadline);
+            if (!drained) {
+                logger.warn("Running work did not finish within {} ms. Cancelling it!", drainTimeout.toMillis());
+                CancellationToken.root().cancel("shutdown");
+                actionThreadManager.interrupt();
+                listenerThreadManager.interrupt();
+                long grace = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CANCEL_GRACE);
+                join(actionThreadManager, grace);
+                join(listenerThreadManager, grace);
+            }
+
+            sessionWatchdog.stopWatchdog();
+            actionThreadManager.getActionWatchdog().stopWatchdog();
+            actionThreadManager.logStatistics();
+            logger.info("Driver lease: {}", seleniumManager.getDriverLease().getStatistics());
+            if (userStore != null) {
+                logger.info("User store: {}", userStore.getStatistics());
+                userStore.close();
+            }
+            seleniumManager.stop();
+            openAIManager.shutdown();
+            logger.info("Shutdown finished in {} ms.", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } finally {
+            terminated.countDown();
+        }
+    }
+
+    /**
+     * Waits until the shutdown is finished.
+     */
+    public void awaitTermination() {
+        try {
+            terminated.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Checks whether a shutdown was started.
+     *
+     * @return {@code true} if Seleniagram is shutting down or was shut down.
+     */
+    public boolean isShuttingDown() {
+        return started.get();
+    }
+
+    /**
+     * Waits for a thread to end until the given deadline.
+     *
+     * @param thread   the thread to wait for.
+     * @param deadline the deadline in {@link System#nanoTime()} units.
+     * @return {@code true} if the thread ended, {@code false} if the deadline expired first.
+     */
+    private boolean join(Thread thread, long deadline) {
+        long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        try {
+            if (remaining > 0) {
+                thread.join(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return !thread.isAlive();
+    }
+}
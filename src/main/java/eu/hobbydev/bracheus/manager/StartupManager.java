@@ -0,0 +1,160 @@
+package eu.hobbydev.bracheus.manager;
+
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The StartupManager class runs the startup stages of Seleniagram and measures how long each of them takes.
+ * <p>
+ * Independent stages, such as booting Chrome, parsing the language file and creating the OpenAI client, are started
+ * with {@link #stage(String, Callable)} and run concurrently on virtual threads. Stages that others depend on are run
+ * with {@link #run(String, Callable)} on the calling thread. After startup, {@link #logTimings()} logs a breakdown
+ * of all stages.
+ * </p>
+ */
+public class StartupManager implements AutoCloseable {
+
+    private final Logger logger = LoggerFactory.getLogger(StartupManager.class);
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger order = new AtomicInteger();
+    private final Map<Integer, String> stageNames = new ConcurrentSkipListMap<>();
+    private final Map<String, Long> timings = new ConcurrentHashMap<>();
+    private final long start = System.nanoTime();
+
+    /**
+     * Starts a stage that runs concurrently with the other stages.
+     *
+     * @param name the name of the stage, used in the timing breakdown.
+     * @param task the work of the stage.
+     * @param <T>  the result type of the stage.
+     * @return a future completed with the result of the stage.
+     */
+    public <T> CompletableFuture<T> stage(String name, Callable<T> task) {
+        int position = order.getAndIncrement();
+        return CompletableFuture.supplyAsync(() -> measure(position, name, task), executor);
+    }
+
+    /**
+     * Runs a stage on the calling thread and waits for its result.
+     *
+     * @param name the name of the stage, used in the timing breakdown.
+     * @param task the work of the stage.
+     * @param <T>  the result type of the stage.
+     * @return the result of the stage.
+     * @throws IOException if the stage failed with an {@link IOException}.
+     */
+    public <T> T run(String name, Callable<T> task) throws IOException {
+        try {
+            return measure(order.getAndIncrement(), name, task);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for a stage started with {@link #stage(String, Callable)} and returns its result.
+     *
+     * @param stage the future of the stage.
+     * @param <T>   the result type of the stage.
+     * @return the result of the stage.
+     * @throws IOException if the stage failed with an {@link IOException}.
+     */
+    public <T> T await(CompletableFuture<T> stage) throws IOException {
+        try {
+            return stage.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Logs the total startup time and the time of every stage.
+     */
+    public void logTimings() {
+        StringJoiner breakdown = new StringJoiner(", ");
+        for (String name : stageNames.values()) {
+            Long time = timings.get(name);
+            if (time != null) {
+                breakdown.add(name + " " + time + " ms");
+            }
+        }
+        logger.info("Startup finished in {} ms ({})", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), breakdown);
+    }
+
+    /**
+     * Shuts down the executor used for the concurrent stages.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Runs the given task and records how long it took.
+     *
+     * @param position the position of the stage in the timing breakdown.
+     * @param name     the name of the stage.
+     * @param task     the work of the stage.
+     * @param <T>      the result type of the stage.
+     * @return the result of the task.
+     */
+    private <T> T measure(int position, String name, Callable<T> task) {
+        stageNames.put(position, name);
+        long stageStart = System.nanoTime();
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            logger.error("Startup stage {} failed: {}", name, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            logger.error("Startup stage {} failed: {}", name, e.getMessage());
+            throw new CompletionException(e);
+        } finally {
+            long time = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - stageStart);
+            timings.put(name, time);
+            logger.info("Startup stage {} finished in {} ms", name, time);
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package eu.hobbydev.bracheus.manager;
+
+
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import eu.hobbydev.bracheus.classes.ScheduleEntry;
+import eu.hobbydev.bracheus.classes.ScheduleHolder;
+import eu.hobbydev.bracheus.interfaces.Actions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The TimerWheelManager class registers actions with the {@link ActionThreadManager} after a delay or repeatedly.
+ * <p>
+ * The timers are kept in a hashed timer wheel: a ring of buckets, each holding a linked list of timers. A timer is
+ * placed in the bucket of the tick it is due at, together with the number of full rounds the wheel has to turn first.
+ * Scheduling and cancelling a timer are O(1), and every tick only touches the timers of one bucket, so thousands of
+ * pending timers cost next to nothing. Timers fire with the precision of one tick.
+ * </p>
+ *
+ * <p>Timers are identified by an id and name the type and argument of their action instead of holding the action
+ * itself. The action is created by the factory registered for its type when the timer fires. This way all timers can
+ * be written to the schedule file and armed again after a restart. The schedule file is written when timers
+ * changed, at most once per minute, and when the thread is stopped.</p>
+ */
+public final class TimerWheelManager extends Thread {
+
+    // Number of buckets, a power of two so the bucket of a tick is found with a mask.
+    private static final int WHEEL_SIZE = 512;
+    private static final int MASK = WHEEL_SIZE - 1;
+    // Duration of one tick in milliseconds.
+    private static final long TICK = 1000;
+    // Minimum time in milliseconds between two writes of the schedule file.
+    private static final long SAVE_INTERVAL = 60000;
+
+    private final Logger logger = LoggerFactory.getLogger(TimerWheelManager.class);
+    private final ActionThreadManager actionThreadManager;
+    private final File scheduleFile;
+    private final Map<String, Function<String, Actions>> factories = new ConcurrentHashMap<>();
+    private final Timer[] buckets = new Timer[WHEEL_SIZE];
+    private final Map<String, Timer> timers = new HashMap<>();
+    // Due timers whose action is not registered yet, by id.
+    private final Map<String, Timer> firing = new HashMap<>();
+    private final long startTime = System.currentTimeMillis();
+    private long currentTick = 0;
+    private boolean dirty = false;
+    private long lastSave = System.currentTimeMillis();
+    private volatile boolean running = true;
+
+    /**
+     * Constructs a new TimerWheelManager.
+     *
+     * @param actionThreadManager the ActionThreadManager the due actions are registered with.
+     * @param scheduleFile        the file the timers are stored in.
+     */
+    public TimerWheelManager(ActionThreadManager actionThreadManager, File scheduleFile) {
+        super("TimerWheelManager");
+        this.actionThreadManager = actionThreadManager;
+        this.scheduleFile = scheduleFile;
+        setDaemon(true);
+    }
+
+    /**
+     * Registers the factory that creates the actions of the given type.
+     *
+     * @param type    the type of the action, as used when scheduling.
+     * @param factory the factory creating the action from the argument of the timer.
+     */
+    public void registerFactory(String type, Function<String, Actions> factory) {
+        factories.put(type, factory);
+    }
+
+    /**
+     * Schedules an action. A timer with the same id is replaced.
+     *
+     * @param id       the unique id of the timer.
+     * @param type     the type of the action, a factory must be registered for it.
+     * @param argument the argument passed to the factory, e.g. a username.
+     * @param delay    the time until the first run.
+     * @param period   the time between two runs, or {@code null} for a single run.
+     * @throws IllegalArgumentException if no factory is registered for the type.
+     */
+    public void schedule(String id, String type, String argument, Duration delay, Duration period) {
+        if (!factories.containsKey(type)) {
+            throw new IllegalArgumentException("No factory registered for action type " + type);
+        }
+        long periodMillis = period == null ? 0 : Math.max(TICK, period.toMillis());
+        arm(new Timer(id, type, argument, System.currentTimeMillis() + Math.max(0, delay.toMillis()), periodMillis));
+    }
+
+    /**
+     * Cancels a timer. A timer that is due but has not registered its action yet does not register it anymore.
+     *
+     * @param id the id of the timer.
+     * @return {@code true} if the timer was pending, otherwise {@code false}.
+     */
+    public synchronized boolean cancel(String id) {
+        Timer timer = timers.remove(id);
+        Timer due = firing.remove(id);
+        if (timer == null && due == null) {
+            return false;
+        }
+        if (timer != null) {
+            unlink(timer);
+        }
+        dirty = true;
+        return true;
+    }
+
+    /**
+     * Checks whether a timer with the given id is pending.
+     *
+     * @param id the id of the timer.
+     * @return {@code true} if the timer is pending.
+     */
+    public synchronized boolean isScheduled(String id) {
+        return timers.containsKey(id) || firing.containsKey(id);
+    }
+
+    /**
+     * Returns the number of pending timers.
+     *
+     * @return the number of pending timers.
+     */
+    public synchronized int size() {
+        int size = timers.size();
+        for (String id : firing.keySet()) {
+            if (!timers.containsKey(id)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Arms the timers stored in the schedule file. Timers that became due while Seleniagram was not running fire
+     * with the next tick. Timers of unknown action types are skipped.
+     *
+     * @throws IOException if the schedule file cannot be read.
+     */
+    public void load() throws IOException {
+        if (!scheduleFile.exists()) {
+            return;
+        }
+        ScheduleHolder holder = new XmlMapper().readValue(scheduleFile, ScheduleHolder.class);
+        if (holder.getEntries() == null) {
+            return;
+        }
+        int armed = 0;
+        for (ScheduleEntry entry : holder.getEntries()) {
+            if (!factories.containsKey(entry.getType())) {
+                logger.warn("Skipping timer {}, unknown action type {}.", entry.getId(), entry.getType());
+                continue;
+            }
+            arm(new Timer(entry.getId(), entry.getType(), entry.getArgument(), entry.getNextRun(), entry.getPeriod()));
+            armed++;
+        }
+        logger.info("Armed {} timers from {}.", armed, scheduleFile.getName());
+    }
+
+    /**
+     * Writes all pending timers to the schedule file. The file is replaced atomically,
+     * so a crash while writing never leaves a broken schedule behind.
+     */
+    public void save() {
+        ScheduleHolder holder = new ScheduleHolder();
+        synchronized (this) {
+            for (Timer timer : timers.values()) {
+                holder.getEntries().add(new ScheduleEntry(timer.id, timer.type, timer.argument, timer.deadline, timer.period));
+            }
+            // A due single run that has not registered its action yet fires right after a restart.
+            for (Timer timer : firing.values()) {
+                if (!timers.containsKey(timer.id)) {
+                    holder.getEntries().add(new ScheduleEntry(timer.id, timer.type, timer.argument, timer.deadline, timer.period));
+                }
+            }
+            dirty = false;
+            lastSave = System.currentTimeMillis();
+        }
+        try {
+            File temp = new File(scheduleFile.getPath() + ".tmp");
+            new XmlMapper().writeValue(temp, holder);
+            Files.move(temp.toPath(), scheduleFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.error("Can't write schedule file: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Runs the wheel. Every tick, the timers of the current bucket are checked, due timers register their action
+     * and recurring timers are armed again.
+     */
+    @Override
+    public void run() {
+        while (running) {
+            long sleep;
+            synchronized (this) {
+                sleep = startTime + currentTick * TICK - System.currentTimeMillis();
+            }
+            if (sleep > 0) {
+                try {
+                    Thread.sleep(sleep);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            for (Timer timer : advance()) {
+                fire(timer);
+            }
+            boolean save;
+            synchronized (this) {
+                save = dirty && System.currentTimeMillis() - lastSave >= SAVE_INTERVAL;
+            }
+            if (save) {
+                save();
+            }
+        }
+    }
+
+    /**
+     * Stops the wheel and writes the pending timers to the schedule file.
+     */
+    public void stopWheel() {
+        logger.info("Stopping TimerWheelManager!");
+        running = false;
+        this.interrupt();
+        save();
+    }
+
+    /**
+     * Processes the bucket of the current tick and moves the wheel to the next tick.
+     * Recurring timers are armed again right away, so a timer stays pending until it is cancelled.
+     *
+     * @return the timers that are due.
+     */
+    private synchronized List<Timer> advance() {
+        List<Timer> due = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        Timer timer = buckets[(int) (currentTick & MASK)];
+        while (timer != null) {
+            Timer next = timer.next;
+            if (timer.rounds > 0) {
+                timer.rounds--;
+            } else {
+                unlink(timer);
+                timers.remove(timer.id);
+                firing.put(timer.id, timer);
+                due.add(timer);
+                dirty = true;
+            }
+            timer = next;
+        }
+        currentTick++;
+        for (Timer fired : due) {
+            if (fired.period > 0) {
+                // The next run is based on the planned time, so a recurring timer does not drift.
+                long nextRun = fired.deadline + fired.period;
+                if (nextRun < now) {
+                    nextRun = now + fired.period;
+                }
+                arm(new Timer(fired.id, fired.type, fired.argument, nextRun, fired.period));
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Registers the action of a due timer, unless the timer was cancelled since it became due.
+     *
+     * @param timer the due timer.
+     */
+    private void fire(Timer timer) {
+        synchronized (this) {
+            if (firing.get(timer.id) != timer) {
+                return;
+            }
+            firing.remove(timer.id);
+        }
+        Function<String, Actions> factory = factories.get(timer.type);
+        try {
+            actionThreadManager.registerActions(factory.apply(timer.argument));
+        } catch (RuntimeException e) {
+            logger.error("Timer {} failed to create its action: {}", timer.id, e.getMessage());
+        }
+    }
+
+    /**
+     * Puts a timer into the bucket of the tick it is due at. A pending timer with the same id is replaced.
+     *
+     * @param timer the timer to arm.
+     */
+    private synchronized void arm(Timer timer) {
+        Timer previous = timers.put(timer.id, timer);
+        if (previous != null) {
+            unlink(previous);
+        }
+        long tick = Math.max(currentTick, (timer.deadline - startTime + TICK - 1) / TICK);
+        timer.rounds = (tick - currentTick) / WHEEL_SIZE;
+        timer.bucket = (int) (tick & MASK);
+        timer.next = buckets[timer.bucket];
+        if (timer.next != null) {
+            timer.next.previous = timer;
+        }
+        buckets[timer.bucket] = timer;
+        dirty = true;
+    }
+
+    /**
+     * Removes a timer from its bucket.
+     *
+     * @param timer the timer to remove.
+     */
+    private void unlink(Timer timer) {
+        if (timer.previous != null) {
+            timer.previous.next = timer.next;
+        } else {
+            buckets[timer.bucket] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+        timer.previous = null;
+        timer.next = null;
+    }
+
+    /**
+     * A pending timer, linked into the list of its bucket.
+     */
+    private static final class Timer {
+
+        private final String id;
+        private final String type;
+        private final String argument;
+        private final long deadline;
+        private final long period;
+        private long rounds;
+        private int bucket;
+        private Timer previous;
+        private Timer next;
+
+        /**
+         * Constructs a timer.
+         *
+         * @param id       the unique id of the timer.
+         * @param type     the type of the action.
+         * @param argument the argument passed to the factory of the action.
+         * @param deadline the time the timer is due in milliseconds since the epoch.
+         * @param period   the time in milliseconds between two runs, or 0 for a single run.
+         */
+        private Timer(String id, String type, String argument, long deadline, long period) {
+            this.id = id;
+            this.type = type;
+            this.argument = argument;
+            this.deadline = deadline;
+            this.period = period;
+        }
+    }
+}
@@ -3,9 +3,18 @@ package eu.hobbydev.bracheus.manager;
 
 import eu.hobbydev.bracheus.classes.InstaUser;
 import eu.hobbydev.bracheus.classes.SeleniagramUser;
+import eu.hobbydev.bracheus.classes.StatsHistory;
+import eu.hobbydev.bracheus.interfaces.User;
+import eu.hobbydev.bracheus.interfaces.UserStorage;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 
 /**
  * Copyright (C) 2025 Bracheus
@@ -30,18 +39,60 @@ import java.util.List;
  * It provides methods to register, unregister, and query information about known and followed Instagram users.
  * The class also allows access to the Seleniagram user.
  * <p>
- * This class manages two distinct lists of Instagram users: one for known users and one for followed users.
- * It also provides functionality to register and unregister users in these lists, as well as check if a user is known or followed.
+ * Known users are indexed by their username, so every lookup takes constant time no matter how many accounts are
+ * tracked. A followed user is always a known user as well. Users can be registered and looked up from any thread.
+ * The users are kept in a {@link UserStorage}: by default an {@link ObjectUserStorage}, or a
+ * {@link CompactUserStorage}, which needs a fraction of the heap for very large sets of tracked users.
  * </p>
  *
+ * <p>The stored users are published snapshots (see {@link InstaUser#publish(long)}): they are never modified, so a
+ * reader always sees all counters of one update and never a half-written user. Updates are made with
+ * {@link #computeInstaUser(String, BiFunction)}, {@link #updateInstaUser(String, Consumer)} and
+ * {@link #mergeInstaUser(InstaUser, BinaryOperator)}, which work on a copy and atomically replace the snapshot with a
+ * new version.</p>
+ *
+ * <p>Besides the latest counters, a compact {@link StatsHistory} of the counters over time is kept per user, so
+ * their growth can be analysed. The history of a known user is kept in the {@link UserStorage} with the user; the
+ * histories of other users, like the Seleniagram user, are kept in a separate map. If a {@link UserStore} is attached, every change is recorded in it, so the users and
+ * their histories survive a restart.</p>
+ *
  * @see InstaUser
  * @see SeleniagramUser
  */
 public class UserManager {
 
     private SeleniagramUser seleniagramUser;
-    private final List<InstaUser> knownInstaUsers = new ArrayList<>();
-    private final List<InstaUser> followedInstaUsers = new ArrayList<>();
+    private final UserStorage storage;
+    private final Map<String, StatsHistory> otherStatsHistories = new ConcurrentHashMap<>();
+    private final int statsHistoryCapacity;
+    private volatile UserStore userStore;
+
+    /**
+     * Constructs a {@code UserManager} that keeps {@link StatsHistory#DEFAULT_CAPACITY} samples per user.
+     */
+    public UserManager() {
+        this(StatsHistory.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a {@code UserManager}.
+     *
+     * @param statsHistoryCapacity the number of samples kept in the stats history of every user.
+     */
+    public UserManager(int statsHistoryCapacity) {
+        this(statsHistoryCapacity, new ObjectUserStorage());
+    }
+
+    /**
+     * Constructs a {@code UserManager} that keeps the known users in the given storage.
+     *
+     * @param statsHistoryCapacity the number of samples kept in the stats history of every user.
+     * @param storage              the storage of the known users, e.g. a {@link CompactUserStorage}.
+     */
+    public UserManager(int statsHistoryCapacity, UserStorage storage) {
+        this.statsHistoryCapacity = statsHistoryCapacity;
+        this.storage = storage;
+    }
 
     /**
      * Gets the Seleniagram user managed by this {@code UserManager}.
@@ -59,12 +110,10 @@ public class UserManager {
      * @return The {@link InstaUser} corresponding to the username, or {@code null} if no followed user is found.
      */
     public InstaUser getFollowedInstaUser(String user) {
-        for (InstaUser searched : followedInstaUsers) {
-            if (searched.getUsername().equals(user)) {
-                return searched;
-            }
+        if (user == null || !storage.isFollowed(user)) {
+            return null;
         }
-        return null;
+        return storage.get(user);
     }
 
     /**
@@ -74,12 +123,45 @@ public class UserManager {
      * @return The {@link InstaUser} corresponding to the username, or {@code null} if no known user is found.
      */
     public InstaUser getKnownInstaUser(String user) {
-        for (InstaUser searched : knownInstaUsers) {
-            if (searched.getUsername().equals(user)) {
-                return searched;
-            }
-        }
-        return null;
+        return user == null ? null : storage.get(user);
+    }
+
+    /**
+     * Retrieves a read-only view of a known Instagram user. Unlike {@link #getKnownInstaUser(String)}, no snapshot
+     * is created if the users are kept in a {@link CompactUserStorage}, so this is the cheaper way to read a counter.
+     *
+     * @param user The username of the Instagram user to retrieve.
+     * @return The read-only {@link User}, or {@code null} if no known user is found.
+     */
+    public User getKnownUserView(String user) {
+        return user == null ? null : storage.view(user);
+    }
+
+    /**
+     * Returns all known Instagram users.
+     *
+     * @return an unmodifiable, weakly consistent view of the known users.
+     */
+    public Collection<InstaUser> getKnownInstaUsers() {
+        return Collections.unmodifiableCollection(storage.values());
+    }
+
+    /**
+     * Returns the number of known Instagram users.
+     *
+     * @return the number of known users.
+     */
+    public int getKnownInstaUserCount() {
+        return storage.size();
+    }
+
+    /**
+     * Returns the number of followed Instagram users.
+     *
+     * @return the number of followed users.
+     */
+    public int getFollowedInstaUserCount() {
+        return storage.followedCount();
     }
 
     /**
@@ -89,7 +171,7 @@ public class UserManager {
      * @return {@code true} if the user is known, otherwise {@code false}.
      */
     public boolean isKnownInstaUser(InstaUser user) {
-        return knownInstaUsers.contains(user);
+        return user != null && isKnownInstaUser(user.getUsername());
     }
 
     /**
@@ -99,12 +181,7 @@ public class UserManager {
      * @return {@code true} if the user is known, otherwise {@code false}.
      */
     public boolean isKnownInstaUser(String user) {
-        for (InstaUser instaUser : knownInstaUsers) {
-            if (instaUser.getUsername().equals(user)) {
-                return true;
-            }
-        }
-        return false;
+        return user != null && storage.contains(user);
     }
 
     /**
@@ -114,7 +191,7 @@ public class UserManager {
      * @return {@code true} if the user is followed, otherwise {@code false}.
      */
     public boolean isFollowedInstaUser(InstaUser user) {
-        return followedInstaUsers.contains(user);
+        return user != null && isFollowedInstaUser(user.getUsername());
     }
 
     /**
@@ -124,48 +201,240 @@ public class UserManager {
      * @return {@code true} if the user is followed, otherwise {@code false}.
      */
     public boolean isFollowedInstaUser(String user) {
-        for (InstaUser instaUser : followedInstaUsers) {
-            if (instaUser.getUsername().equals(user)) {
-                return true;
+        return user != null && storage.isFollowed(user);
+    }
+
+    /**
+     * Atomically computes the new state of a known Instagram user.
+     * <p>
+     * The function receives a modifiable copy of the current snapshot, or {@code null} if the user is not known, and
+     * returns the new state, or {@code null} to unregister the user. The result is published as the next version.
+     * Concurrent updates of the same user are applied one after the other, so none of them is lost.
+     * The function must be short and must not access this {@code UserManager}.
+     * </p>
+     *
+     * @param username  The username of the Instagram user.
+     * @param remapping The function computing the new state from the username and the copy of the current state.
+     * @return The published snapshot, or {@code null} if the user is not known afterwards.
+     * @throws IllegalArgumentException if the returned user has a different username.
+     */
+    public InstaUser computeInstaUser(String username, BiFunction<String, InstaUser, InstaUser> remapping) {
+        return storage.compute(username, (key, current) -> {
+            InstaUser next = remapping.apply(key, current == null ? null : new InstaUser(current));
+            if (next == null) {
+                if (current != null && userStore != null) {
+                    userStore.appendRemove(key);
+                }
+                return null;
             }
-        }
-        return false;
+            if (!key.equals(next.getUsername())) {
+                throw new IllegalArgumentException("Can't store InstaUser " + next.getUsername() + " as " + key + "!");
+            }
+            if (next.isPublished()) {
+                next = new InstaUser(next);
+            }
+            next.publish((current == null ? next.getVersion() : current.getVersion()) + 1);
+            if (userStore != null) {
+                // Recorded while the entry is locked, so the log has the updates of a user in the same order.
+                userStore.appendUser(next);
+            }
+            return next;
+        });
+    }
+
+    /**
+     * Atomically updates a known Instagram user, or registers it if it is not known yet.
+     * The consumer modifies a copy of the current snapshot, or a new user, which is then published as the next version.
+     *
+     * @param username The username of the Instagram user.
+     * @param update   The modification, e.g. setting the counters read from the profile.
+     * @return The published snapshot.
+     */
+    public InstaUser updateInstaUser(String username, Consumer<InstaUser> update) {
+        return computeInstaUser(username, (key, copy) -> {
+            InstaUser user = copy == null ? new InstaUser(key) : copy;
+            update.accept(user);
+            return user;
+        });
     }
 
     /**
-     * Registers an Instagram user as a known user.
+     * Atomically merges an Instagram user into the known users. If the user is not known yet, it is registered.
+     * Otherwise, the merge function combines a copy of the current snapshot with the given user.
+     *
+     * @param user  The {@link InstaUser} to merge.
+     * @param merge The function combining the copy of the current state and the given user, or returning {@code null}
+     *              to unregister the user.
+     * @return The published snapshot, or {@code null} if the user is not known afterwards.
+     */
+    public InstaUser mergeInstaUser(InstaUser user, BinaryOperator<InstaUser> merge) {
+        return computeInstaUser(user.getUsername(), (key, copy) -> copy == null ? user : merge.apply(copy, user));
+    }
+
+    /**
+     * Registers an Instagram user as a known user. A known user with the same username is replaced,
+     * its follow status is kept. A copy of the user is stored, so the given instance stays modifiable.
      *
      * @param user The {@link InstaUser} to register as a known user.
      */
     public void registerInstaUser(InstaUser user) {
-        knownInstaUsers.add(user);
+        computeInstaUser(user.getUsername(), (key, copy) -> new InstaUser(user));
     }
 
     /**
-     * Unregisters an Instagram user from the list of known users.
+     * Unregisters an Instagram user from the known users. A user that is no longer known is no longer followed either.
      *
-     * @param user The {@link InstaUser} to unregister from the known users list.
+     * @param user The {@link InstaUser} to unregister from the known users.
      */
     public void unregisterInstaUser(InstaUser user) {
-        knownInstaUsers.remove(user);
+        computeInstaUser(user.getUsername(), (key, copy) -> null);
     }
 
     /**
-     * Registers an Instagram user as a followed user.
+     * Registers an Instagram user as a followed user. The user is registered as a known user as well,
+     * unless a user with the same username is already known.
      *
      * @param user The {@link InstaUser} to register as a followed user.
      */
     public void registerFollowedInstaUser(InstaUser user) {
-        followedInstaUsers.add(user);
+        storage.compute(user.getUsername(), (key, current) -> {
+            if (current != null) {
+                return current;
+            }
+            InstaUser added = new InstaUser(user).publish(user.getVersion() + 1);
+            if (userStore != null) {
+                userStore.appendUser(added);
+            }
+            return added;
+        });
+        if (storage.setFollowed(user.getUsername(), true) && userStore != null) {
+            userStore.appendFollow(user.getUsername(), true);
+        }
     }
 
     /**
-     * Unregisters an Instagram user from the list of followed users.
+     * Unregisters an Instagram user from the followed users. The user stays known.
      *
-     * @param user The {@link InstaUser} to unregister from the followed users list.
+     * @param user The {@link InstaUser} to unregister from the followed users.
      */
     public void unregisterFollowedInstaUser(InstaUser user) {
-        followedInstaUsers.remove(user);
+        if (storage.setFollowed(user.getUsername(), false) && userStore != null) {
+            userStore.appendFollow(user.getUsername(), false);
+        }
+    }
+
+    /**
+     * Adds a sample of the profile counters to the stats history of a user. The history of a known user is kept
+     * with the user in the {@link UserStorage}; other users, like the Seleniagram user, have a history as well.
+     *
+     * @param username The username of the user.
+     * @param time     The time of the sample in seconds since the epoch.
+     * @param posts    The number of posts.
+     * @param subs     The number of subscribers.
+     * @param subbed   The number of subscriptions.
+     * @return The stats history of the user.
+     */
+    public StatsHistory recordStats(String username, long time, int posts, int subs, int subbed) {
+        StatsHistory history = storage.updateStatsHistory(username,
+                current -> addSample(username, current, time, posts, subs, subbed));
+        if (history != null) {
+            return history;
+        }
+        return otherStatsHistories.compute(username, (key, current) -> addSample(key, current, time, posts, subs, subbed));
+    }
+
+    /**
+     * Adds a sample to a history and records it in the {@link UserStore}, if one is attached.
+     *
+     * @param username The username of the user.
+     * @param history  The current history, or {@code null} to start a new one.
+     * @param time     The time of the sample in seconds since the epoch.
+     * @param posts    The number of posts.
+     * @param subs     The number of subscribers.
+     * @param subbed   The number of subscriptions.
+     * @return The history with the new sample.
+     */
+    private StatsHistory addSample(String username, StatsHistory history, long time, int posts, int subs, int subbed) {
+        StatsHistory updated = history == null ? new StatsHistory(statsHistoryCapacity) : history;
+        updated.add(time, posts, subs, subbed);
+        if (userStore != null) {
+            userStore.appendSample(username, time, posts, subs, subbed);
+        }
+        return updated;
+    }
+
+    /**
+     * Retrieves the stats history of a user.
+     *
+     * @param username The username of the user.
+     * @return The {@link StatsHistory} of the user, or {@code null} if no sample was recorded yet. For a known user
+     * in a {@link CompactUserStorage}, this is a decoded copy.
+     */
+    public StatsHistory getStatsHistory(String username) {
+        if (username == null) {
+            return null;
+        }
+        StatsHistory history = storage.getStatsHistory(username);
+        return history != null ? history : otherStatsHistories.get(username);
+    }
+
+    /**
+     * Calls the given action for the stats history of every user that has one.
+     *
+     * @param action the action receiving the username and the history.
+     */
+    public void forEachStatsHistory(BiConsumer<String, StatsHistory> action) {
+        storage.forEachStatsHistory(action);
+        otherStatsHistories.forEach(action);
+    }
+
+    /**
+     * Gets the number of samples kept in the stats history of every user.
+     *
+     * @return the capacity of the histories.
+     */
+    public int getStatsHistoryCapacity() {
+        return statsHistoryCapacity;
+    }
+
+    /**
+     * Runs the given task while no known user can be changed, e.g. to write a consistent snapshot of all users.
+     *
+     * @param task the task to run.
+     * @see UserStorage#blockingWrites(Runnable)
+     */
+    void blockingWrites(Runnable task) {
+        storage.blockingWrites(task);
+    }
+
+    /**
+     * Attaches the store that records every change of the known and followed users.
+     *
+     * @param userStore the store, or {@code null} to stop recording.
+     */
+    void setUserStore(UserStore userStore) {
+        this.userStore = userStore;
+    }
+
+    /**
+     * Adds users loaded from a {@link UserStore}. The users keep their stored version and are not recorded again.
+     *
+     * @param users     the published known users.
+     * @param followed  the usernames of the followed users.
+     * @param histories the stats histories, keyed by username.
+     */
+    void restore(Collection<InstaUser> users, Collection<String> followed, Map<String, StatsHistory> histories) {
+        for (InstaUser user : users) {
+            storage.compute(user.getUsername(), (key, current) -> user);
+        }
+        for (String username : followed) {
+            storage.setFollowed(username, true);
+        }
+        histories.forEach((username, history) -> {
+            if (storage.updateStatsHistory(username, current -> history) == null) {
+                otherStatsHistories.put(username, history);
+            }
+        });
     }
 
     /**
@@ -0,0 +1,603 @@
+package eu.hobbydev.bracheus.manager;
+
+
+import eu.hobbydev.bracheus.classes.InstaUser;
+import eu.hobbydev.bracheus.classes.StatsHistory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The UserStore class keeps everything the {@link UserManager} learns across restarts, without an external database.
+ * <p>
+ * Every change of a known or followed user is appended as a small binary record to a memory-mapped log file.
+ * An append is a copy into the page cache, so it costs no system call, and the record survives a crash of the process.
+ * Every record carries its length and a CRC32 checksum; recovery stops at the first record that is incomplete or
+ * corrupt, so a torn write at the end of the log is dropped instead of loaded.
+ * </p>
+ *
+ * <p>When the log grows beyond the compaction size, and when the store is closed, the current state is written to a
+ * snapshot file and the log starts over. Snapshot and log carry a generation number: the snapshot is replaced
+ * atomically first, and a log of an older generation is ignored, so a crash during compaction never applies a change
+ * twice. On startup, the snapshot is read and the log of the same generation is replayed on top of it.</p>
+ *
+ * <p>Record layout: {@code int length, int crc32, byte type, short name length, name (UTF-8)} followed, for
+ * {@link #PUT} records, by {@code long version, int posts, int subs, int subbed}, for {@link #SAMPLE} records by
+ * {@code long time, int posts, int subs, int subbed}, and for {@link #HISTORY} records by the encoded
+ * {@link StatsHistory}. Samples are appended to the log; the snapshot holds every history as a whole.</p>
+ */
+public class UserStore implements AutoCloseable {
+
+    private static final int LOG_MAGIC = 0x53474C47;       // "SGLG"
+    private static final int SNAPSHOT_MAGIC = 0x53475350;  // "SGSP"
+    private static final int FORMAT = 1;
+    // Magic, format and generation, padded to 8 bytes.
+    private static final int LOG_HEADER = 24;
+    private static final int RECORD_HEADER = 8;
+    private static final int INITIAL_LOG_SIZE = 1 << 20;
+
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final byte FOLLOW = 3;
+    private static final byte UNFOLLOW = 4;
+    private static final byte SAMPLE = 5;
+    private static final byte HISTORY = 6;
+
+    private final Logger logger = LoggerFactory.getLogger(UserStore.class);
+    private final File logFile;
+    private final File snapshotFile;
+    private final long compactionSize;
+    private final CRC32 crc = new CRC32();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private volatile UserManager userManager;
+    private FileChannel channel;
+    private MappedByteBuffer log;
+    private long generation;
+    private int position;
+    private long appended = 0;
+    private long compactions = 0;
+    private boolean closed = false;
+
+    /**
+     * Constructs a UserStore whose files are kept in the given directory.
+     *
+     * @param directory      the directory of the files {@code users.log} and {@code users.snapshot}.
+     * @param compactionSize the size in bytes of the log after which it is compacted into a new snapshot.
+     */
+    public UserStore(File directory, long compactionSize) {
+        this.logFile = new File(directory, "users.log");
+        this.snapshotFile = new File(directory, "users.snapshot");
+        this.compactionSize = compactionSize;
+    }
+
+    /**
+     * Loads the stored users into the given {@link UserManager} and records every further change of it.
+     *
+     * @param userManager the UserManager to restore and to watch.
+     * @return the number of restored known users.
+     * @throws IOException if the files cannot be read or created.
+     */
+    public synchronized int load(UserManager userManager) throws IOException {
+        long start = System.nanoTime();
+        RestoredState state = new RestoredState(userManager.getStatsHistoryCapacity());
+        long snapshotGeneration = readSnapshot(state);
+
+        channel = FileChannel.open(logFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        log = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(channel.size(), INITIAL_LOG_SIZE));
+        int replayed = 0;
+        boolean validLog = log.getInt(0) == LOG_MAGIC && log.getInt(4) == FORMAT;
+        if (snapshotGeneration < 0) {
+            // Without a valid snapshot, the log still holds the latest changes, so it is replayed on top of what was
+            // read from the broken snapshot.
+            snapshotGeneration = validLog ? log.getLong(8) : 0;
+        }
+        if (validLog && log.getLong(8) == snapshotGeneration) {
+            replayed = replayLog(state);
+        } else {
+            if (log.getInt(0) == LOG_MAGIC) {
+                logger.info("Skipping log of generation {}, it is already part of the snapshot.", log.getLong(8));
+            }
+            resetLog(snapshotGeneration);
+        }
+        generation = snapshotGeneration;
+
+        this.userManager = userManager;
+        userManager.restore(state.users.values(), state.followed, state.histories);
+        userManager.setUserStore(this);
+        logger.info("Loaded {} users ({} followed, {} histories, {} log records) in {} ms.", state.users.size(),
+                state.followed.size(), state.histories.size(), replayed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return state.users.size();
+    }
+
+    /**
+     * Appends the new snapshot of a known user.
+     *
+     * @param user the published user.
+     */
+    void appendUser(InstaUser user) {
+        byte[] name = user.getUsername().getBytes(StandardCharsets.UTF_8);
+        append(PUT, name, user.getVersion(), user.getPosts(), user.getSubs(), user.getSubbed());
+    }
+
+    /**
+     * Appends the removal of a known user.
+     *
+     * @param username the username of the removed user.
+     */
+    void appendRemove(String username) {
+        append(REMOVE, username.getBytes(StandardCharsets.UTF_8), 0, 0, 0, 0);
+    }
+
+    /**
+     * Appends a change of the follow status of a user.
+     *
+     * @param username the username of the user.
+     * @param followed {@code true} if the user is followed now, {@code false} if not.
+     */
+    void appendFollow(String username, boolean followed) {
+        append(followed ? FOLLOW : UNFOLLOW, username.getBytes(StandardCharsets.UTF_8), 0, 0, 0, 0);
+    }
+
+    /**
+     * Appends a sample of the stats history of a user.
+     *
+     * @param username the username of the user.
+     * @param time     the time of the sample in seconds since the epoch.
+     * @param posts    the number of posts.
+     * @param subs     the number of subscribers.
+     * @param subbed   the number of subscriptions.
+     */
+    void appendSample(String username, long time, int posts, int subs, int subbed) {
+        append(SAMPLE, username.getBytes(StandardCharsets.UTF_8), time, posts, subs, subbed);
+    }
+
+    /**
+     * Writes the current state of the {@link UserManager} to a new snapshot and starts an empty log.
+     * Appends wait until the compaction is done, so no change is lost.
+     * <p>
+     * Changes of the known users record themselves while their storage is locked, so the storage is locked before
+     * this store, see {@link UserManager#blockingWrites(Runnable)}. Taking the locks in the same order as the
+     * changes rules out a deadlock.
+     * </p>
+     *
+     * @throws IOException if the snapshot cannot be written.
+     */
+    public void compact() throws IOException {
+        UserManager manager = userManager;
+        if (manager == null) {
+            return;
+        }
+        try {
+            manager.blockingWrites(() -> {
+                synchronized (this) {
+                    try {
+                        compactLocked();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Writes the snapshot and starts an empty log. The monitor of this store must be held.
+     *
+     * @throws IOException if the snapshot cannot be written.
+     */
+    private void compactLocked() throws IOException {
+        if (closed) {
+            return;
+        }
+        long start = System.nanoTime();
+        long next = generation + 1;
+        int count = writeSnapshot(next);
+        log.force();
+        resetLog(next);
+        generation = next;
+        compactions++;
+        logger.info("Compacted {} users into snapshot {} in {} ms.", count, next,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Returns the statistics of the store.
+     *
+     * @return a string with the generation, the log size, the appended records and the number of compactions.
+     */
+    public synchronized String getStatistics() {
+        return "generation=" + generation +
+                ", log=" + position + " bytes" +
+                ", appended=" + appended +
+                ", compactions=" + compactions;
+    }
+
+    /**
+     * Compacts the log into a final snapshot, so the next startup only reads the snapshot, and closes the files.
+     * Changes after closing are no longer recorded.
+     */
+    @Override
+    public void close() {
+        try {
+            compact();
+        } catch (IOException e) {
+            logger.error("Can't compact user store: {}", e.getMessage());
+        }
+        synchronized (this) {
+            if (closed || channel == null) {
+                return;
+            }
+            try {
+                log.force();
+                channel.close();
+            } catch (IOException e) {
+                logger.error("Can't close user store: {}", e.getMessage());
+            }
+            closed = true;
+        }
+    }
+
+    /**
+     * Appends a record to the log. The length is written last, so a record only becomes visible to the recovery
+     * once it is complete. If the log grew beyond the compaction size, a compaction is started in the background.
+     * {@link #PUT} and {@link #SAMPLE} records carry a long and three ints, the other records only the name.
+     */
+    private synchronized void append(byte type, byte[] name, long value, int posts, int subs, int subbed) {
+        if (closed || log == null) {
+            logger.warn("User store is closed. Change of {} is not stored!", new String(name, StandardCharsets.UTF_8));
+            return;
+        }
+        boolean counters = type == PUT || type == SAMPLE;
+        int payload = 1 + 2 + name.length + (counters ? 20 : 0);
+        try {
+            ensureCapacity(RECORD_HEADER + payload + 4);
+        } catch (IOException e) {
+            logger.error("Can't grow user log: {}", e.getMessage());
+            return;
+        }
+        ByteBuffer record = ByteBuffer.allocate(payload);
+        record.put(type).putShort((short) name.length).put(name);
+        if (counters) {
+            record.putLong(value).putInt(posts).putInt(subs).putInt(subbed);
+        }
+        crc.reset();
+        crc.update(record.array(), 0, payload);
+
+        int recordStart = position;
+        log.putInt(recordStart + RECORD_HEADER + payload, 0);
+        log.put(recordStart + RECORD_HEADER, record.array());
+        log.putInt(recordStart + 4, (int) crc.getValue());
+        log.putInt(recordStart, payload);
+        position = recordStart + RECORD_HEADER + payload;
+        appended++;
+
+        if (position >= compactionSize && compacting.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("UserStoreCompaction").start(() -> {
+                try {
+                    compact();
+                } catch (IOException e) {
+                    logger.error("Can't compact user store: {}", e.getMessage());
+                } finally {
+                    compacting.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Maps a larger part of the log file if the next record does not fit.
+     *
+     * @param bytes the number of bytes to write at the current position.
+     * @throws IOException if the file cannot be mapped.
+     */
+    private void ensureCapacity(int bytes) throws IOException {
+        if (position + bytes <= log.capacity()) {
+            return;
+        }
+        long size = Math.max((long) log.capacity() * 2, (long) position + bytes);
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("User log exceeds " + Integer.MAX_VALUE + " bytes");
+        }
+        log.force();
+        log = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    /**
+     * Starts an empty log of the given generation.
+     *
+     * @param logGeneration the generation of the snapshot the log builds on.
+     */
+    private void resetLog(long logGeneration) {
+        log.putInt(LOG_HEADER, 0);
+        log.putLong(8, logGeneration);
+        log.putInt(4, FORMAT);
+        log.putInt(0, LOG_MAGIC);
+        position = LOG_HEADER;
+    }
+
+    /**
+     * Replays the records of the log. Replay stops at the end of the log or at the first incomplete or corrupt record,
+     * which is then overwritten by the next append.
+     *
+     * @param state the state read so far, updated in place.
+     * @return the number of replayed records.
+     */
+    private int replayLog(RestoredState state) {
+        int offset = LOG_HEADER;
+        int records = 0;
+        ByteBuffer buffer = log.duplicate();
+        while (true) {
+            int length = readRecord(buffer, offset, state);
+            if (length < 0) {
+                break;
+            }
+            offset += RECORD_HEADER + length;
+            records++;
+        }
+        if (buffer.getInt(offset) != 0) {
+            logger.warn("User log has a broken record at byte {}. Dropping the rest of the log.", offset);
+        }
+        position = offset;
+        log.putInt(offset, 0);
+        return records;
+    }
+
+    /**
+     * Reads the snapshot file, if it exists. The stored users are a cache of what Seleniagram learned, so a broken
+     * snapshot must not prevent the startup: it is logged and moved aside to {@code users.snapshot.corrupt}, and the
+     * records read up to the broken one are kept.
+     *
+     * @param state the state to put the known users, followed usernames and histories into.
+     * @return the generation of the snapshot, 0 if there is none, -1 if it is broken.
+     */
+    private long readSnapshot(RestoredState state) {
+        if (!snapshotFile.exists()) {
+            return 0;
+        }
+        try {
+            return readSnapshotFile(state);
+        } catch (IOException e) {
+            logger.error("Can't read user snapshot: {}", e.getMessage());
+            File corrupt = new File(snapshotFile.getPath() + ".corrupt");
+            try {
+                Files.move(snapshotFile.toPath(), corrupt.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                logger.warn("Moved the broken user snapshot to {}.", corrupt.getName());
+            } catch (IOException moveException) {
+                logger.error("Can't move the broken user snapshot aside: {}", moveException.getMessage());
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Reads the snapshot file.
+     *
+     * @param state the state to put the known users, followed usernames and histories into.
+     * @return the generation of the snapshot.
+     * @throws IOException if the snapshot file cannot be read or is broken.
+     */
+    private long readSnapshotFile(RestoredState state) throws IOException {
+        try (FileChannel snapshotChannel = FileChannel.open(snapshotFile.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = snapshotChannel.map(FileChannel.MapMode.READ_ONLY, 0, snapshotChannel.size());
+            if (buffer.remaining() < LOG_HEADER || buffer.getInt(0) != SNAPSHOT_MAGIC || buffer.getInt(4) != FORMAT) {
+                throw new IOException("Invalid user snapshot " + snapshotFile.getName());
+            }
+            long snapshotGeneration = buffer.getLong(8);
+            int count = buffer.getInt(16);
+            int offset = LOG_HEADER;
+            for (int i = 0; i < count; i++) {
+                int length = readRecord(buffer, offset, state);
+                if (length < 0) {
+                    throw new IOException("Broken record " + i + " in user snapshot " + snapshotFile.getName());
+                }
+                offset += RECORD_HEADER + length;
+            }
+            return snapshotGeneration;
+        }
+    }
+
+    /**
+     * Reads and applies one record.
+     *
+     * @param buffer the buffer containing the record.
+     * @param offset the offset of the record in the buffer.
+     * @param state  the restored state, updated in place.
+     * @return the payload length of the record, or -1 if there is no complete and valid record at the offset.
+     */
+    private int readRecord(ByteBuffer buffer, int offset, RestoredState state) {
+        try {
+            if (offset + RECORD_HEADER > buffer.limit()) {
+                return -1;
+            }
+            int length = buffer.getInt(offset);
+            if (length <= 3 || offset + RECORD_HEADER + length > buffer.limit()) {
+                return -1;
+            }
+            ByteBuffer payload = buffer.slice(offset + RECORD_HEADER, length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != buffer.getInt(offset + 4)) {
+                return -1;
+            }
+            byte type = payload.get();
+            byte[] name = new byte[payload.getShort()];
+            payload.get(name);
+            String username = new String(name, StandardCharsets.UTF_8);
+            switch (type) {
+                case PUT -> {
+                    long version = payload.getLong();
+                    InstaUser user = new InstaUser(username);
+                    user.setPosts(payload.getInt());
+                    user.setSubs(payload.getInt());
+                    user.setSubbed(payload.getInt());
+                    state.users.put(username, user.publish(version));
+                }
+                case REMOVE -> {
+                    state.users.remove(username);
+                    state.followed.remove(username);
+                    state.histories.remove(username);
+                }
+                case FOLLOW -> state.followed.add(username);
+                case UNFOLLOW -> state.followed.remove(username);
+                case SAMPLE -> {
+                    long time = payload.getLong();
+                    StatsHistory history = state.histories.computeIfAbsent(username, key -> new StatsHistory(state.historyCapacity));
+                    StatsHistory.Sample last = history.getLast();
+                    // A sample recorded while a compaction wrote the snapshot is in the snapshot and in the new log.
+                    if (last == null || time > last.time()) {
+                        history.add(time, payload.getInt(), payload.getInt(), payload.getInt());
+                    }
+                }
+                case HISTORY -> {
+                    byte[] history = new byte[payload.remaining()];
+                    payload.get(history);
+                    state.histories.put(username, StatsHistory.fromBytes(history, state.historyCapacity));
+                }
+                default -> {
+                    return -1;
+                }
+            }
+            return length;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException | IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Writes the known and followed users of the {@link UserManager} to a new snapshot file, which atomically
+     * replaces the old one.
+     *
+     * @param snapshotGeneration the generation of the new snapshot.
+     * @return the number of written users.
+     * @throws IOException if the snapshot cannot be written.
+     */
+    private int writeSnapshot(long snapshotGeneration) throws IOException {
+        File temp = new File(snapshotFile.getPath() + ".tmp");
+        int count = 0;
+        int records = 0;
+        try (FileOutputStream file = new FileOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(FORMAT);
+            out.writeLong(snapshotGeneration);
+            // Number of records, patched once all records are written.
+            out.writeInt(0);
+            out.writeInt(0);
+            ByteBuffer record = ByteBuffer.allocate(1 << 10);
+            for (InstaUser user : userManager.getKnownInstaUsers()) {
+                byte[] name = user.getUsername().getBytes(StandardCharsets.UTF_8);
+                record.clear();
+                record.put(PUT).putShort((short) name.length).put(name)
+                        .putLong(user.getVersion()).putInt(user.getPosts()).putInt(user.getSubs()).putInt(user.getSubbed());
+                writeRecord(out, record);
+                count++;
+                if (userManager.isFollowedInstaUser(user.getUsername())) {
+                    record.clear();
+                    record.put(FOLLOW).putShort((short) name.length).put(name);
+                    writeRecord(out, record);
+                    records++;
+                }
+            }
+            int[] histories = new int[1];
+            try {
+                userManager.forEachStatsHistory((username, history) -> {
+                    byte[] name = username.getBytes(StandardCharsets.UTF_8);
+                    byte[] encoded = history.toBytes();
+                    ByteBuffer historyRecord = ByteBuffer.allocate(3 + name.length + encoded.length);
+                    historyRecord.put(HISTORY).putShort((short) name.length).put(name).put(encoded);
+                    try {
+                        writeRecord(out, historyRecord);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    histories[0]++;
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            records += histories[0];
+            out.flush();
+            records += count;
+            file.getChannel().write(ByteBuffer.allocate(4).putInt(0, records), 16);
+            file.getFD().sync();
+        }
+        Files.move(temp.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return count;
+    }
+
+    /**
+     * Writes one record with its length and checksum.
+     *
+     * @param out    the stream to write to.
+     * @param record the payload of the record, from position 0 to the current position.
+     * @throws IOException if the record cannot be written.
+     */
+    private void writeRecord(DataOutputStream out, ByteBuffer record) throws IOException {
+        crc.reset();
+        crc.update(record.array(), 0, record.position());
+        out.writeInt(record.position());
+        out.writeInt((int) crc.getValue());
+        out.write(record.array(), 0, record.position());
+    }
+
+    /**
+     * The state read from the snapshot and the log before it is handed to the {@link UserManager}.
+     */
+    private static final class RestoredState {
+
+        private final Map<String, InstaUser> users = new HashMap<>();
+        private final Set<String> followed = new LinkedHashSet<>();
+        private final Map<String, StatsHistory> histories = new HashMap<>();
+        private final int historyCapacity;
+
+        /**
+         * Constructs an empty state.
+         *
+         * @param historyCapacity the capacity of histories created while replaying samples.
+         */
+        private RestoredState(int historyCapacity) {
+            this.historyCapacity = historyCapacity;
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package eu.hobbydev.bracheus.settings;
 
 
+import eu.hobbydev.bracheus.Seleniagram;
+import eu.hobbydev.bracheus.interfaces.ConfigurationHolder;
 import org.openqa.selenium.chrome.ChromeOptions;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
 /**
  * Copyright (C) 2025 Bracheus
  * <p>
@@ -23,8 +30,14 @@ import org.openqa.selenium.chrome.ChromeOptions;
 
 /**
  * The SeleniagramChrome class provides a method to configure and return ChromeOptions
- * for running Google Chrome in a headless mode with additional configurations for Selenium automation.
+ * for running Google Chrome with additional configurations for Selenium automation.
  * These configurations help to simulate a regular browser environment and avoid detection as a bot.
+ * <p>
+ * The launch profile is driven by the {@link ConfigurationHolder}. By default Chrome runs with a window as before,
+ * without GPU and extensions, with a limited number of renderer processes, a capped V8 heap and a small disk cache,
+ * so that it fits on small Linux machines. Setting {@code headless} in the configuration runs it without a window. A persistent profile directory keeps the Instagram session
+ * across restarts, so the login form is only needed once the session has expired.
+ * </p>
  */
 public class SeleniagramChrome {
 
@@ -33,21 +46,34 @@ public class SeleniagramChrome {
     private static final String DEV = "--disable-dev-shm-usage"; // Disables /dev/shm usage for certain environments.
     private static final String HIDE_BOT = "--disable-blink-features=AutomationControlled"; // Prevents detection of Selenium automation.
     private static final String USER_AGENT = "user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64)"; // Sets the user-agent string to mimic a real user.
-    private static final String CHROME_BINARY = "C:\\chromedriver\\chrome.exe"; // Path to the Chrome executable.
 
-    private static final String REMOTE_DEBUGGING_PORT = "--remote-debugging-port=9222"; // Enables remote debugging on a specific port.
+    private static final String REMOTE_DEBUGGING_PORT = "--remote-debugging-port="; // Enables remote debugging on a specific port.
     private static final String FORCE_SCALE_FACTOR = "--force-device-scale-factor=1"; // Ensures proper scaling of UI elements.
     private static final String DISABLE_POPUP_BLOCKING = "--disable-popup-blocking"; // Disables Chrome's popup blocking feature.
     private static final String DISABLE_INFOBARS = "--disable-infobars"; // Disables Chrome's infobars (e.g., "Chrome is being controlled by automated test software").
 
+    private static final String HEADLESS = "--headless=new"; // Runs Chrome without a window.
+    private static final String WINDOW_SIZE = "--window-size=1920,1080"; // Gives headless Chrome a desktop sized viewport.
+    private static final String DISABLE_GPU = "--disable-gpu"; // Disables GPU acceleration.
+    private static final String DISABLE_EXTENSIONS = "--disable-extensions"; // Disables all extensions.
+    private static final String RENDERER_PROCESS_LIMIT = "--renderer-process-limit="; // Limits the number of renderer processes.
+    private static final String JS_HEAP_SIZE = "--js-flags=--max-old-space-size="; // Caps the V8 heap in megabytes.
+    private static final String DISK_CACHE_DIR = "--disk-cache-dir="; // Sets the location of the disk cache.
+    private static final String DISK_CACHE_SIZE = "--disk-cache-size="; // Caps the disk cache in bytes.
+    private static final String MUTE_AUDIO = "--mute-audio"; // Never plays audio.
+    private static final String USER_DATA_DIR = "--user-data-dir="; // Keeps cookies and storage in a persistent profile.
+    private static final String STANDBY_SUFFIX = "-standby"; // Suffix of the profile directory used by the standby browser.
+
 
     /**
-     * Configures and returns a ChromeOptions object with the necessary arguments for running Chrome
-     * in a headless mode and with additional settings to prevent bot detection.
+     * Configures and returns a ChromeOptions object with the arguments of the configured launch profile
+     * and with additional settings to prevent bot detection.
      *
+     * @param configurationHolder the configuration containing the launch profile.
+     * @param profileSlot         the profile slot, 0 for the primary and 1 for the standby profile directory.
      * @return a configured ChromeOptions object.
      */
-    public static ChromeOptions getChromeOptions() {
+    public static ChromeOptions getChromeOptions(ConfigurationHolder configurationHolder, int profileSlot) {
         ChromeOptions chromeOptions = new ChromeOptions();
 
         // Adding necessary Chrome options
@@ -59,10 +85,87 @@ public class SeleniagramChrome {
         chromeOptions.addArguments(DEV);  // Disables shared memory usage that may cause issues in some environments.
         chromeOptions.addArguments(HIDE_BOT);  // Hides the bot signature to avoid detection.
         chromeOptions.addArguments(USER_AGENT);  // Sets the browser's user-agent to mimic a real user.
-        chromeOptions.setBinary(CHROME_BINARY);  // Specifies the location of the Chrome executable.
-        chromeOptions.addArguments(REMOTE_DEBUGGING_PORT);  // Enables remote debugging to allow interaction with Chrome.
+        chromeOptions.addArguments(MUTE_AUDIO);  // Media is never played.
+
+        // Adding the configured launch profile
+        if (!isBlank(configurationHolder.getChromeBinary())) {
+            chromeOptions.setBinary(configurationHolder.getChromeBinary());  // Specifies the location of the Chrome executable.
+        }
+        if (configurationHolder.isHeadless()) {
+            chromeOptions.addArguments(HEADLESS, WINDOW_SIZE);
+        }
+        if (configurationHolder.isDisableGpu()) {
+            chromeOptions.addArguments(DISABLE_GPU);
+        }
+        if (configurationHolder.isDisableExtensions()) {
+            chromeOptions.addArguments(DISABLE_EXTENSIONS);
+        }
+        if (configurationHolder.getRendererProcessLimit() > 0) {
+            chromeOptions.addArguments(RENDERER_PROCESS_LIMIT + configurationHolder.getRendererProcessLimit());
+        }
+        if (configurationHolder.getJsHeapSize() > 0) {
+            chromeOptions.addArguments(JS_HEAP_SIZE + configurationHolder.getJsHeapSize());
+        }
+        if (!isBlank(configurationHolder.getDiskCacheDir())) {
+            chromeOptions.addArguments(DISK_CACHE_DIR + configurationHolder.getDiskCacheDir());
+        }
+        if (configurationHolder.getDiskCacheSize() > 0) {
+            chromeOptions.addArguments(DISK_CACHE_SIZE + configurationHolder.getDiskCacheSize() * 1024L * 1024L);
+        }
+        if (!isBlank(configurationHolder.getUserDataDir())) {
+            chromeOptions.addArguments(USER_DATA_DIR + getUserDataDir(configurationHolder, profileSlot));  // Restores the last session on startup.
+        }
+        chromeOptions.addArguments(REMOTE_DEBUGGING_PORT + getRemoteDebuggingPort(configurationHolder, profileSlot));  // Enables remote debugging to allow interaction with Chrome.
 
         return chromeOptions; // Return the configured ChromeOptions object.
     }
 
+    /**
+     * Returns the configured remote debugging port, or a free port if none is configured.
+     * A free port allows several Chrome instances to run on the same machine.
+     * The standby slot always gets a free port, because the primary browser already binds the configured one.
+     *
+     * @param configurationHolder the configuration containing the launch profile.
+     * @param profileSlot         the profile slot, 0 for the primary and 1 for the standby browser.
+     * @return the remote debugging port.
+     */
+    private static int getRemoteDebuggingPort(ConfigurationHolder configurationHolder, int profileSlot) {
+        if (profileSlot == 0 && configurationHolder.getRemoteDebuggingPort() > 0) {
+            return configurationHolder.getRemoteDebuggingPort();
+        }
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't allocate a remote debugging port", e);
+        }
+    }
+
+    /**
+     * Returns the absolute path of the configured Chrome profile directory.
+     * A relative directory is resolved against the directory of the Seleniagram jar.
+     * The standby slot uses a sibling directory, because a profile can only be used by one Chrome at a time.
+     *
+     * @param configurationHolder the configuration containing the launch profile.
+     * @param profileSlot         the profile slot, 0 for the primary and 1 for the standby profile directory.
+     * @return the absolute path of the Chrome profile directory.
+     */
+    public static String getUserDataDir(ConfigurationHolder configurationHolder, int profileSlot) {
+        String directory = configurationHolder.getUserDataDir() + (profileSlot == 0 ? "" : STANDBY_SUFFIX);
+        File userDataDir = new File(directory);
+        if (!userDataDir.isAbsolute() && Seleniagram.getJarPath() != null) {
+            userDataDir = new File(Seleniagram.getJarPath(), directory);
+        }
+        return userDataDir.getAbsolutePath();
+    }
+
+    /**
+     * Checks whether the given setting is empty.
+     *
+     * @param value the setting to check.
+     * @return {@code true} if the setting is {@code null} or blank.
+     */
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
 }
\ No newline at end of file
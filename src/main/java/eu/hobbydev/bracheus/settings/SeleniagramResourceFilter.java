@@ -0,0 +1,82 @@
+package eu.hobbydev.bracheus.settings;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The SeleniagramResourceFilter class builds the list of URL patterns that Chrome should not load.
+ * The patterns are passed to the DevTools command {@code Network.setBlockedURLs}, so the blocked requests
+ * never leave the browser.
+ * <p>
+ * Seleniagram only reads the text of the pages it opens. Images, videos, audio and fonts are never used,
+ * so they can be blocked by resource type. Third-party analytics are blocked by URL pattern.
+ * </p>
+ */
+public class SeleniagramResourceFilter {
+
+    // Resource types that can be blocked, mapped to the URL patterns of their files.
+    private static final Map<String, List<String>> RESOURCE_TYPE_PATTERNS = Map.of(
+            "image", List.of("*.png*", "*.jpg*", "*.jpeg*", "*.gif*", "*.webp*", "*.avif*", "*.heic*", "*.ico*"),
+            "media", List.of("*.mp4*", "*.m4v*", "*.m4a*", "*.webm*", "*.mp3*", "*.ogg*", "*.m3u8*", "*.mpd*"),
+            "font", List.of("*.woff*", "*.woff2*", "*.ttf*", "*.otf*", "*.eot*")
+    );
+
+    /**
+     * Resource types blocked by default.
+     */
+    public static final List<String> DEFAULT_RESOURCE_TYPES = List.of("image", "media", "font");
+
+    /**
+     * Third-party analytics blocked by default.
+     */
+    public static final List<String> DEFAULT_BLOCKED_URLS = List.of(
+            "*google-analytics.com*",
+            "*googletagmanager.com*",
+            "*doubleclick.net*",
+            "*connect.facebook.net*",
+            "*facebook.com/tr*"
+    );
+
+    /**
+     * Builds the URL patterns to block for the given resource types and additional URL patterns.
+     * Unknown resource types are ignored.
+     *
+     * @param resourceTypes the resource types to block, e.g. "image", "media" or "font".
+     * @param blockedUrls   additional URL patterns to block, e.g. third-party analytics.
+     * @return the URL patterns to pass to {@code Network.setBlockedURLs}.
+     */
+    public static List<String> getBlockedUrlPatterns(List<String> resourceTypes, List<String> blockedUrls) {
+        List<String> patterns = new ArrayList<>();
+        if (resourceTypes != null) {
+            for (String resourceType : resourceTypes) {
+                patterns.addAll(RESOURCE_TYPE_PATTERNS.getOrDefault(resourceType.trim().toLowerCase(Locale.ROOT), List.of()));
+            }
+        }
+        if (blockedUrls != null) {
+            patterns.addAll(blockedUrls);
+        }
+        return patterns;
+    }
+
+}
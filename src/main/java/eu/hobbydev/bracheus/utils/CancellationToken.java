@@ -0,0 +1,191 @@
+package eu.hobbydev.bracheus.utils;
+
+import eu.hobbydev.bracheus.exceptions.SeleniagramCancelledException;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The CancellationToken class signals that running work should stop as soon as possible.
+ * <p>
+ * Tokens form a tree: the {@link #root()} token stands for the whole application, and every action or listener
+ * checkup runs with a {@link #child()} of it. Cancelling a token cancels all of its children. The token of the
+ * running work is bound to its thread with {@link #bind()}, so waits and driver calls find it with {@link #current()}
+ * without passing it around. A thread without a bound token uses the root token.
+ * </p>
+ *
+ * <p>Waits use {@link #sleep(long)} instead of {@link Thread#sleep(long)}: it returns early with a
+ * {@link SeleniagramCancelledException} as soon as the token is cancelled, so no wait delays a shutdown.</p>
+ */
+public class CancellationToken implements AutoCloseable {
+
+    private static final CancellationToken ROOT = new CancellationToken(null);
+    private static final ThreadLocal<CancellationToken> CURRENT = new ThreadLocal<>();
+
+    private final CancellationToken parent;
+    private final Set<CancellationToken> children = ConcurrentHashMap.newKeySet();
+    private final Object monitor = new Object();
+    private volatile String reason;
+
+    /**
+     * Constructs a token.
+     *
+     * @param parent the parent token, or {@code null} for the root token.
+     */
+    private CancellationToken(CancellationToken parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Returns the token of the whole application.
+     *
+     * @return the root token.
+     */
+    public static CancellationToken root() {
+        return ROOT;
+    }
+
+    /**
+     * Returns the token bound to the calling thread.
+     *
+     * @return the bound token, or the root token if none is bound.
+     */
+    public static CancellationToken current() {
+        CancellationToken token = CURRENT.get();
+        return token == null ? ROOT : token;
+    }
+
+    /**
+     * Creates a child of this token. The child is cancelled together with this token.
+     * A child of a cancelled token is cancelled right away.
+     *
+     * @return the new child token, which must be closed when the work is done.
+     */
+    public CancellationToken child() {
+        CancellationToken child = new CancellationToken(this);
+        children.add(child);
+        if (isCancelled()) {
+            child.cancel(reason);
+        }
+        return child;
+    }
+
+    /**
+     * Binds this token to the calling thread.
+     *
+     * @return a scope that restores the previously bound token when it is closed.
+     */
+    public Scope bind() {
+        CancellationToken previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Cancels this token and all of its children, and wakes every thread sleeping on them.
+     * Cancelling a token more than once has no effect.
+     *
+     * @param reason the reason of the cancellation, used in the exception message.
+     */
+    public void cancel(String reason) {
+        synchronized (monitor) {
+            if (this.reason != null) {
+                return;
+            }
+            this.reason = reason == null ? "cancelled" : reason;
+            monitor.notifyAll();
+        }
+        for (CancellationToken child : children) {
+            child.cancel(this.reason);
+        }
+    }
+
+    /**
+     * Checks whether this token was cancelled.
+     *
+     * @return {@code true} if the token was cancelled.
+     */
+    public boolean isCancelled() {
+        return reason != null;
+    }
+
+    /**
+     * Throws if this token was cancelled.
+     *
+     * @throws SeleniagramCancelledException if the token was cancelled.
+     */
+    public void throwIfCancelled() {
+        if (reason != null) {
+            throw new SeleniagramCancelledException("Cancelled: " + reason);
+        }
+    }
+
+    /**
+     * Sleeps for the given time, or until this token is cancelled.
+     *
+     * @param millis the time to sleep in milliseconds.
+     * @throws SeleniagramCancelledException if the token is cancelled, or the thread is interrupted, while sleeping.
+     */
+    public void sleep(long millis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        synchronized (monitor) {
+            while (true) {
+                throwIfCancelled();
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    return;
+                }
+                try {
+                    monitor.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SeleniagramCancelledException("Interrupted while sleeping");
+                }
+            }
+        }
+    }
+
+    /**
+     * Detaches this token from its parent, so the parent no longer keeps track of it.
+     */
+    @Override
+    public void close() {
+        if (parent != null) {
+            parent.children.remove(this);
+        }
+    }
+
+    /**
+     * A binding of a token to a thread. Closing it restores the previously bound token.
+     */
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
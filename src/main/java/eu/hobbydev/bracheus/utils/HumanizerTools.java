@@ -1,6 +1,12 @@
 package eu.hobbydev.bracheus.utils;
 
 import eu.hobbydev.bracheus.Seleniagram;
+import eu.hobbydev.bracheus.exceptions.SeleniagramCancelledException;
+import eu.hobbydev.bracheus.manager.SeleniumManager;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Copyright (C) 2025 Bracheus
@@ -25,39 +31,170 @@ import eu.hobbydev.bracheus.Seleniagram;
  * and for checking the status of the action queue in the Seleniagram bot.
  * <p>
  * This interface is intended to simulate human-like pauses during automation tasks to avoid
- * detection and to make the bot's behavior more natural. The delays are introduced between
- * actions (e.g., input delays and site delays) to mimic human interaction speeds.
+ * detection and to make the bot's behavior more natural. Site delays no longer sleep for a fixed
+ * worst-case time: they continue as soon as the page is ready. The configured site pacing is a separate
+ * rate limit between two site delays, and the time spent waiting for the page counts towards it, so the
+ * rate of page loads stays the same while ready pages are not waited for twice.
  */
 public interface HumanizerTools {
 
+    /**
+     * Time without new network requests after which a page counts as idle.
+     */
+    Duration NETWORK_QUIET_PERIOD = Duration.ofMillis(500);
+
+    /**
+     * Rate limit of the site delays, shared by all actions and listeners because they use the same browser.
+     */
+    Pacer SITE_PACER = new Pacer();
+
     /**
      * Introduces a delay to simulate human-like input timing.
-     * The delay lasts for 500 milliseconds.
+     * The delay lasts for the configured input pacing.
      * <p>
      * This method is called to add a short pause before or after user input actions,
      * simulating a human's typing delay.
      */
     default void inputDelay() {
-        try {
-            Thread.sleep(500);  // 500 milliseconds delay
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);  // Handle interruption during sleep
+        pause(Seleniagram.configurationHolder.getInputPacing());
+    }
+
+    /**
+     * Enters a text into the given element.
+     * <p>
+     * If bulk text entry is enabled in the configuration, the whole text is inserted with a single
+     * WebDriver command. Otherwise, the text is typed character by character without a pause between the
+     * characters. The input delay is applied once after the text in both cases.
+     *
+     * @param element the element to enter the text into.
+     * @param text    the text to enter.
+     */
+    default void typeText(WebElement element, String text) {
+        enterText(element, text, false);
+    }
+
+    /**
+     * Enters a text into the given element like {@link #typeText(WebElement, String)}, but without bulk text entry
+     * the input delay is applied after each character, like a person typing. This is used for the login form, which
+     * was always typed at this pace.
+     *
+     * @param element the element to enter the text into.
+     * @param text    the text to enter.
+     */
+    default void typeTextPaced(WebElement element, String text) {
+        enterText(element, text, true);
+    }
+
+    /**
+     * Enters a text into the given element, in bulk or character by character depending on the configuration,
+     * and applies the input delay after the text.
+     *
+     * @param element the element to enter the text into.
+     * @param text    the text to enter.
+     * @param paced   {@code true} to apply the input delay after each typed character as well.
+     */
+    private void enterText(WebElement element, String text, boolean paced) {
+        SeleniumManager seleniumManager = getHumanizerSeleniumManager();
+        if (Seleniagram.configurationHolder.isBulkTextEntry() && seleniumManager != null) {
+            seleniumManager.insertText(element, text);
+        } else if (seleniumManager != null && paced) {
+            seleniumManager.typeText(element, text, this::inputDelay);
+        } else if (seleniumManager != null) {
+            seleniumManager.typeText(element, text);
+        } else {
+            element.sendKeys(text);
         }
+        inputDelay();
     }
 
     /**
      * Introduces a delay between site interactions.
-     * The delay lasts for 5000 milliseconds (5 seconds).
      * <p>
-     * This method is typically used to add a longer pause between actions on different pages
-     * or sections of a site, simulating a more natural browsing experience.
+     * The delay waits until the document is ready and the network is idle, bounded by the configured
+     * page timeout. Two site delays end at least the configured site pacing apart, but the time since the last
+     * site delay, including the wait for the page, counts towards it. This is typically used between actions on
+     * different pages or sections of a site, simulating a more natural browsing experience.
      */
     default void siteDelay() {
-        try {
-            Thread.sleep(5000);  // 5000 milliseconds (5 seconds) delay
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);  // Handle interruption during sleep
+        long start = System.nanoTime();
+        SeleniumManager seleniumManager = getHumanizerSeleniumManager();
+        if (seleniumManager != null) {
+            seleniumManager.waitForPageReady(remainingPageTimeout(start));
+            seleniumManager.waitForNetworkIdle(remainingPageTimeout(start), NETWORK_QUIET_PERIOD);
+        }
+        pause(SITE_PACER.reserve(Seleniagram.configurationHolder.getSitePacing()));
+    }
+
+    /**
+     * Waits until an element matching the given XPath is present, bounded by the configured page timeout.
+     * The wait ends as soon as the element is present, the site pacing is left to the site delays.
+     *
+     * @param xPath the XPath of the element to wait for.
+     * @return `true` if the element is present, `false` if the page timeout expired first.
+     */
+    default boolean waitForElement(String xPath) {
+        long start = System.nanoTime();
+        SeleniumManager seleniumManager = getHumanizerSeleniumManager();
+        boolean present = seleniumManager != null && seleniumManager.waitForElement(xPath, remainingPageTimeout(start));
+        CancellationToken.current().throwIfCancelled();
+        return present;
+    }
+
+    /**
+     * Waits until the current URL differs from the given URL, bounded by the configured page timeout,
+     * and then until the new page is ready. The wait ends as soon as the page is ready, the site pacing is left to
+     * the site delays.
+     *
+     * @param previousUrl the URL the browser was on before the navigation.
+     * @return `true` if the URL changed, `false` if the page timeout expired first.
+     */
+    default boolean waitForUrlChange(String previousUrl) {
+        long start = System.nanoTime();
+        SeleniumManager seleniumManager = getHumanizerSeleniumManager();
+        boolean changed = seleniumManager != null && seleniumManager.waitForUrlChange(previousUrl, remainingPageTimeout(start));
+        if (changed) {
+            seleniumManager.waitForPageReady(remainingPageTimeout(start));
+        }
+        CancellationToken.current().throwIfCancelled();
+        return changed;
+    }
+
+    /**
+     * Sleeps for the given number of milliseconds.
+     * The sleep ends early if the {@link CancellationToken} of the running work is cancelled.
+     *
+     * @param millis the time to sleep in milliseconds, nothing is slept if it is not positive.
+     * @throws SeleniagramCancelledException if the running work is cancelled while sleeping.
+     */
+    private static void pause(long millis) {
+        if (millis <= 0) {
+            CancellationToken.current().throwIfCancelled();
+            return;
+        }
+        CancellationToken.current().sleep(millis);
+    }
+
+    /**
+     * Calculates how much of the configured page timeout is left since the given start time.
+     *
+     * @param start the start time as returned by {@link System#nanoTime()}.
+     * @return the remaining page timeout, never negative.
+     */
+    private static Duration remainingPageTimeout(long start) {
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return Duration.ofMillis(Math.max(0, Seleniagram.configurationHolder.getPageTimeout() - elapsed));
+    }
+
+    /**
+     * Gets the SeleniumManager used to check the readiness of the page.
+     *
+     * @return the SeleniumManager, or `null` if the managers are not started yet.
+     */
+    private static SeleniumManager getHumanizerSeleniumManager() {
+        if (Seleniagram.actionThreadManager == null) {
+            return null;
         }
+        return Seleniagram.actionThreadManager.getSeleniumManager();
     }
 
     /**
@@ -0,0 +1,50 @@
+package eu.hobbydev.bracheus.utils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * The Pacer class limits how often something happens, e.g. how often Seleniagram interacts with the site.
+ * <p>
+ * Every interaction reserves the next free slot. Slots are at least one interval apart, measured from the previous
+ * slot and not from the end of the previous wait. Time spent between two interactions, e.g. waiting for a page to
+ * become ready or working on the page, counts towards the interval, so the pacing and the other waits overlap
+ * instead of adding up. An interaction after a longer break does not wait at all.
+ * </p>
+ */
+public class Pacer {
+
+    private long next;
+    private boolean reserved = false;
+
+    /**
+     * Reserves the next free slot and moves the following slot one interval further.
+     *
+     * @param interval the minimum time in milliseconds between two slots.
+     * @return the time in milliseconds until the reserved slot, 0 if it is now.
+     */
+    public synchronized long reserve(long interval) {
+        long now = System.nanoTime();
+        long slot = reserved && next - now > 0 ? next : now;
+        reserved = true;
+        next = slot + TimeUnit.MILLISECONDS.toNanos(Math.max(0, interval));
+        return TimeUnit.NANOSECONDS.toMillis(slot - now);
+    }
+}
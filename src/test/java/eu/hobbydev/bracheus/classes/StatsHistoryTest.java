@@ -0,0 +1,155 @@
+package eu.hobbydev.bracheus.classes;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * Checks the delta encoding of the {@link StatsHistory} against a plain list of samples, and that both byte
+ * encodings restore the same history.
+ */
+class StatsHistoryTest {
+
+    /**
+     * Adds random samples with growing, shrinking and extreme counters, including samples older than the newest one,
+     * and compares the decoded samples with the reference after every step, across several evictions.
+     */
+    @Test
+    void samplesMatchReferenceAcrossEvictions() {
+        int capacity = 16;
+        StatsHistory history = new StatsHistory(capacity);
+        List<StatsHistory.Sample> reference = new ArrayList<>();
+        Random random = new Random(7);
+        long time = 1_700_000_000L;
+        for (int i = 0; i < 200; i++) {
+            // Every fifth sample is older than the newest one and is stored with the newest time.
+            time += i % 5 == 0 ? -random.nextInt(100) : random.nextInt(100_000);
+            long stored = reference.isEmpty() ? time : Math.max(time, reference.get(reference.size() - 1).time());
+            StatsHistory.Sample sample = new StatsHistory.Sample(stored, counter(random), counter(random), counter(random));
+            if (reference.size() >= capacity) {
+                reference.subList(0, capacity / 4).clear();
+            }
+            reference.add(sample);
+            history.add(time, sample.posts(), sample.subs(), sample.subbed());
+            assertEquals(reference, history.getSamples(), "after sample " + i);
+        }
+        assertEquals(reference.size(), history.getCount());
+        assertEquals(reference.get(reference.size() - 1), history.getLast());
+    }
+
+    /**
+     * Both byte encodings restore the same samples. The stream encoding keeps the moving averages exactly, the
+     * compact encoding as floats.
+     *
+     * @throws IOException if a history cannot be decoded.
+     */
+    @Test
+    void encodingsRoundTrip() throws IOException {
+        StatsHistory history = randomHistory(64, 100);
+
+        StatsHistory fromBytes = StatsHistory.fromBytes(history.toBytes());
+        assertEquals(history.getSamples(), fromBytes.getSamples());
+        assertEquals(history.getSubsGrowthAverage(), fromBytes.getSubsGrowthAverage());
+        assertEquals(history.getPostsGrowthAverage(), fromBytes.getPostsGrowthAverage());
+        assertEquals(history.getSubsGrowthPerDay(), fromBytes.getSubsGrowthPerDay());
+
+        StatsHistory fromCompact = StatsHistory.fromCompactBytes(history.toCompactBytes());
+        assertEquals(history.getSamples(), fromCompact.getSamples());
+        assertEquals((float) history.getSubsGrowthAverage(), (float) fromCompact.getSubsGrowthAverage());
+        assertEquals((float) history.getPostsGrowthAverage(), (float) fromCompact.getPostsGrowthAverage());
+
+        // A restored history goes on with the same encoding.
+        fromBytes.add(2_000_000_000L, -5, Integer.MAX_VALUE, 0);
+        fromCompact.add(2_000_000_000L, -5, Integer.MAX_VALUE, 0);
+        history.add(2_000_000_000L, -5, Integer.MAX_VALUE, 0);
+        assertEquals(history.getSamples(), fromBytes.getSamples());
+        assertEquals(history.getSamples(), fromCompact.getSamples());
+    }
+
+    /**
+     * Reading a history with a lower capacity keeps only the newest samples, and the next sample evicts by the new
+     * capacity.
+     *
+     * @throws IOException if the history cannot be decoded.
+     */
+    @Test
+    void readingWithLowerCapacityKeepsNewestSamples() throws IOException {
+        StatsHistory history = randomHistory(64, 40);
+        List<StatsHistory.Sample> samples = history.getSamples();
+
+        StatsHistory recapped = StatsHistory.fromBytes(history.toBytes(), 10);
+        assertEquals(samples.subList(samples.size() - 10, samples.size()), recapped.getSamples());
+        recapped.add(samples.get(samples.size() - 1).time() + 60, 1, 2, 3);
+        assertEquals(10 - 10 / 4 + 1, recapped.getCount());
+        assertEquals(new StatsHistory.Sample(samples.get(samples.size() - 1).time() + 60, 1, 2, 3), recapped.getLast());
+    }
+
+    /**
+     * Truncated bytes are rejected instead of restoring a wrong history.
+     */
+    @Test
+    void truncatedBytesAreRejected() {
+        StatsHistory history = randomHistory(64, 20);
+        byte[] bytes = history.toBytes();
+        byte[] compact = history.toCompactBytes();
+        assertThrows(IOException.class, () -> StatsHistory.fromBytes(Arrays.copyOf(bytes, bytes.length - 3)));
+        assertThrows(IOException.class, () -> StatsHistory.fromCompactBytes(Arrays.copyOf(compact, compact.length - 3)));
+    }
+
+    /**
+     * Creates a history with random samples at increasing times.
+     *
+     * @param capacity the capacity of the history.
+     * @param samples  the number of samples to add.
+     * @return the history.
+     */
+    private static StatsHistory randomHistory(int capacity, int samples) {
+        StatsHistory history = new StatsHistory(capacity);
+        Random random = new Random(capacity + samples);
+        long time = 1_700_000_000L;
+        for (int i = 0; i < samples; i++) {
+            time += 1 + random.nextInt(10_000);
+            history.add(time, counter(random), counter(random), counter(random));
+        }
+        return history;
+    }
+
+    /**
+     * Draws a counter, mostly small, sometimes at the limits of an int.
+     *
+     * @param random the random source.
+     * @return the counter.
+     */
+    private static int counter(Random random) {
+        return switch (random.nextInt(10)) {
+            case 0 -> Integer.MAX_VALUE;
+            case 1 -> Integer.MIN_VALUE;
+            default -> random.nextInt(100_000);
+        };
+    }
+}
@@ -0,0 +1,160 @@
+package eu.hobbydev.bracheus.manager;
+
+import eu.hobbydev.bracheus.classes.InstaUser;
+import eu.hobbydev.bracheus.interfaces.User;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * Checks the parts of the {@link CompactUserStorage} that the reference comparison in {@link UserStorageTest} only
+ * reaches by chance: deletions inside probe chains and views of removed users.
+ */
+class CompactUserStorageTest {
+
+    /**
+     * Removes users from the start, the middle and the end of a probe chain that wraps around the end of the table.
+     * The backward-shift deletion has to keep every remaining user reachable.
+     *
+     * @throws Exception if the internals of the storage cannot be read.
+     */
+    @Test
+    void deletionInsideProbeChainKeepsOtherUsersReachable() throws Exception {
+        CompactUserStorage storage = new CompactUserStorage(16);
+        UserManager userManager = new UserManager(8, storage);
+        int buckets = tableLength(storage);
+        // Users homed in the last bucket, so their chain wraps around, and users homed in the first bucket,
+        // which are displaced by the wrapped chain.
+        List<String> chain = new ArrayList<>();
+        chain.addAll(namesWithHome(buckets - 1, buckets, 4));
+        chain.addAll(namesWithHome(0, buckets, 3));
+        for (int i = 0; i < chain.size(); i++) {
+            int posts = i;
+            userManager.updateInstaUser(chain.get(i), user -> user.setPosts(posts));
+        }
+        assertEquals(buckets, tableLength(storage), "the table must not grow during the test");
+
+        for (int removed : new int[]{1, 0, 5, 3}) {
+            userManager.unregisterInstaUser(new InstaUser(chain.get(removed)));
+            assertNull(storage.get(chain.get(removed)));
+        }
+        for (int i : new int[]{2, 4, 6}) {
+            InstaUser user = storage.get(chain.get(i));
+            assertNotNull(user, chain.get(i));
+            assertEquals(i, user.getPosts());
+        }
+        assertEquals(3, storage.size());
+
+        // Freed buckets and slots are reused without finding the removed users again.
+        userManager.updateInstaUser(chain.get(0), user -> user.setPosts(100));
+        assertEquals(100, storage.get(chain.get(0)).getPosts());
+        assertNull(storage.get(chain.get(1)));
+        assertEquals(4, storage.size());
+    }
+
+    /**
+     * A view of a removed user must not read the counters of the user that reuses its slot.
+     */
+    @Test
+    void staleViewThrows() {
+        CompactUserStorage storage = new CompactUserStorage();
+        UserManager userManager = new UserManager(8, storage);
+        userManager.updateInstaUser("first", user -> user.setSubs(3));
+        User view = userManager.getKnownUserView("first");
+        assertEquals(3, view.getSubs());
+
+        userManager.unregisterInstaUser(new InstaUser("first"));
+        userManager.updateInstaUser("second", user -> user.setSubs(7));
+
+        CompactUserStorage.UserView stale = (CompactUserStorage.UserView) view;
+        assertFalse(stale.isValid());
+        assertThrows(IllegalStateException.class, view::getSubs);
+        assertEquals(7, userManager.getKnownUserView("second").getSubs());
+    }
+
+    /**
+     * The followed flag shares its byte with the slot generation, so updates of the counters must keep it and
+     * unfollowing must keep the counters.
+     */
+    @Test
+    void followedFlagSurvivesUpdates() {
+        CompactUserStorage storage = new CompactUserStorage();
+        UserManager userManager = new UserManager(8, storage);
+        userManager.registerFollowedInstaUser(new InstaUser("followed"));
+        userManager.updateInstaUser("followed", user -> user.setPosts(5));
+        assertTrue(userManager.isFollowedInstaUser("followed"));
+        assertEquals(1, storage.followedCount());
+        userManager.unregisterFollowedInstaUser(new InstaUser("followed"));
+        assertFalse(userManager.isFollowedInstaUser("followed"));
+        assertEquals(5, storage.get("followed").getPosts());
+        assertEquals(0, storage.followedCount());
+    }
+
+    /**
+     * Finds usernames whose home bucket is the given one.
+     *
+     * @param bucket  the home bucket.
+     * @param buckets the number of buckets of the table.
+     * @param count   the number of usernames to find.
+     * @return the usernames.
+     * @throws Exception if the hash function of the storage cannot be called.
+     */
+    private static List<String> namesWithHome(int bucket, int buckets, int count) throws Exception {
+        Method hash = CompactUserStorage.class.getDeclaredMethod("hash", byte[].class, int.class, int.class);
+        Method home = CompactUserStorage.class.getDeclaredMethod("home", int.class, int.class);
+        hash.setAccessible(true);
+        home.setAccessible(true);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; names.size() < count; i++) {
+            String name = "chain_" + bucket + "_" + i;
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            int h = (int) hash.invoke(null, bytes, 0, bytes.length);
+            if ((int) home.invoke(null, h, buckets) == bucket) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Reads the number of buckets of the open-addressing table.
+     *
+     * @param storage the storage.
+     * @return the number of buckets.
+     * @throws Exception if the table cannot be read.
+     */
+    private static int tableLength(CompactUserStorage storage) throws Exception {
+        Field index = CompactUserStorage.class.getDeclaredField("index");
+        index.setAccessible(true);
+        return ((int[]) index.get(storage)).length;
+    }
+}
@@ -0,0 +1,183 @@
+package eu.hobbydev.bracheus.manager;
+
+import eu.hobbydev.bracheus.classes.InstaUser;
+import eu.hobbydev.bracheus.classes.StatsHistory;
+import eu.hobbydev.bracheus.interfaces.UserStorage;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * Checks both {@link UserStorage} implementations through the {@link UserManager} against a plain reference map.
+ */
+class UserStorageTest {
+
+    /**
+     * Provides a factory of every storage implementation. The compact storage starts small, so it grows several
+     * times during a test.
+     *
+     * @return the storage factories, named after the implementation.
+     */
+    static Stream<Arguments> storages() {
+        return Stream.of(
+                Arguments.of("compact", (Supplier<UserStorage>) () -> new CompactUserStorage(16)),
+                Arguments.of("object", (Supplier<UserStorage>) ObjectUserStorage::new));
+    }
+
+    /**
+     * Applies random updates, removals, follows and unfollows and compares every read with the reference.
+     * Non-ASCII names make sure the UTF-8 name arena is compared by bytes, not by characters.
+     *
+     * @param name    the name of the implementation.
+     * @param storage the factory of the storage.
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("storages")
+    void randomOperationsMatchReference(String name, Supplier<UserStorage> storage) {
+        UserManager userManager = new UserManager(8, storage.get());
+        Map<String, Integer> posts = new HashMap<>();
+        Set<String> followed = new HashSet<>();
+        Random random = new Random(1);
+        for (int i = 0; i < 100_000; i++) {
+            String username = "user_" + random.nextInt(3000) + (random.nextBoolean() ? "é" : "");
+            int operation = random.nextInt(10);
+            if (operation < 5) {
+                int value = random.nextInt();
+                userManager.updateInstaUser(username, user -> user.setPosts(value));
+                posts.put(username, value);
+            } else if (operation < 7) {
+                userManager.unregisterInstaUser(new InstaUser(username));
+                posts.remove(username);
+                followed.remove(username);
+            } else if (operation < 8) {
+                userManager.registerFollowedInstaUser(new InstaUser(username));
+                posts.putIfAbsent(username, 0);
+                followed.add(username);
+            } else if (operation < 9) {
+                userManager.unregisterFollowedInstaUser(new InstaUser(username));
+                followed.remove(username);
+            } else {
+                InstaUser user = userManager.getKnownInstaUser(username);
+                assertEquals(posts.containsKey(username), user != null, username);
+                if (user != null) {
+                    assertEquals(posts.get(username), user.getPosts(), username);
+                    assertEquals(posts.get(username), userManager.getKnownUserView(username).getPosts(), username);
+                }
+                assertEquals(followed.contains(username), userManager.isFollowedInstaUser(username), username);
+            }
+        }
+        assertEquals(posts.size(), userManager.getKnownInstaUserCount());
+        assertEquals(followed.size(), userManager.getFollowedInstaUserCount());
+        int count = 0;
+        for (InstaUser user : userManager.getKnownInstaUsers()) {
+            assertEquals(posts.get(user.getUsername()), user.getPosts(), user.getUsername());
+            count++;
+        }
+        assertEquals(posts.size(), count);
+    }
+
+    /**
+     * Increments the counters of shared users from eight threads. Every increment must survive.
+     *
+     * @param name    the name of the implementation.
+     * @param storage the factory of the storage.
+     * @throws Exception if a thread fails.
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("storages")
+    void concurrentUpdatesAreNotLost(String name, Supplier<UserStorage> storage) throws Exception {
+        UserManager userManager = new UserManager(8, storage.get());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        userManager.updateInstaUser("user_" + (i % 1000), user -> user.setPosts(user.getPosts() + 1));
+                        userManager.getKnownInstaUser("user_" + (i % 777));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long sum = 0;
+        for (InstaUser user : userManager.getKnownInstaUsers()) {
+            sum += user.getPosts();
+        }
+        assertEquals(80_000, sum);
+    }
+
+    /**
+     * Records samples for a known user and checks that the history is kept with the user and removed together
+     * with it, while users that are not known keep their history apart.
+     *
+     * @param name    the name of the implementation.
+     * @param storage the factory of the storage.
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("storages")
+    void statsHistoriesFollowTheirUser(String name, Supplier<UserStorage> storage) {
+        UserManager userManager = new UserManager(8, storage.get());
+        userManager.updateInstaUser("known", user -> user.setSubs(1));
+        for (int i = 0; i < 10; i++) {
+            userManager.recordStats("known", 1000 + i, i, 2 * i, 3 * i);
+            userManager.recordStats("unknown", 1000 + i, i, i, i);
+        }
+
+        StatsHistory history = userManager.getStatsHistory("known");
+        assertNotNull(history);
+        assertEquals(8, history.getCount());
+        assertEquals(new StatsHistory.Sample(1009, 9, 18, 27), history.getLast());
+        assertEquals(8, userManager.getStatsHistory("unknown").getCount());
+
+        Map<String, StatsHistory> histories = new HashMap<>();
+        userManager.forEachStatsHistory(histories::put);
+        assertTrue(histories.containsKey("known"));
+        assertTrue(histories.containsKey("unknown"));
+
+        userManager.unregisterInstaUser(new InstaUser("known"));
+        assertNull(userManager.getStatsHistory("known"));
+        assertFalse(userManager.isFollowedInstaUser("known"));
+    }
+}
@@ -0,0 +1,220 @@
+package eu.hobbydev.bracheus.manager;
+
+import eu.hobbydev.bracheus.classes.InstaUser;
+import eu.hobbydev.bracheus.classes.StatsHistory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Copyright (C) 2025 Bracheus
+ * <p>
+ * All rights reserved. Unauthorized copying, distribution, or modification
+ * of this code without express permission from Bracheus is
+ * strictly prohibited.
+ * <p>
+ * This project is the result of personal development and innovation by Bracheus.
+ * By using or modifying this code, you acknowledge the ownership of Bracheus
+ * and agree to comply with the terms outlined in the project’s
+ * licensing agreement.
+ * <p>
+ * Created by: Bracheus (GitHub: https://github.com/Bracheus-DE)
+ * <p>
+ * For inquiries, collaborations, or licensing information, contact:
+ * bracheus@hobbydev.eu
+ */
+
+/**
+ * Checks that the {@link UserStore} restores exactly what was stored, from the snapshot, the log on top of it, and
+ * a broken snapshot.
+ */
+class UserStoreTest {
+
+    private static final long COMPACTION_SIZE = 1 << 20;
+
+    @TempDir
+    File directory;
+
+    /**
+     * Writes users, follows and samples, compacts them into a snapshot, changes them further in the log and copies
+     * both files while the store is still open, like a crash would leave them. The copy must restore the latest
+     * state, with every sample exactly once.
+     *
+     * @throws IOException if the files cannot be written or read.
+     */
+    @Test
+    void snapshotAndLogReplayRestoreTheLatestState() throws IOException {
+        UserManager written = new UserManager(16, new CompactUserStorage());
+        File crashed = new File(directory, "crashed");
+        assertTrue(crashed.mkdir());
+        try (UserStore store = new UserStore(directory, COMPACTION_SIZE)) {
+            store.load(written);
+            for (int i = 0; i < 100; i++) {
+                int posts = i;
+                written.updateInstaUser("user_" + i, user -> user.setPosts(posts));
+                written.recordStats("user_" + i, 1000, posts, 0, 0);
+                if (i % 3 == 0) {
+                    written.registerFollowedInstaUser(new InstaUser("user_" + i));
+                }
+            }
+            written.recordStats("unknown", 1000, 1, 2, 3);
+            store.compact();
+
+            // Changes after the snapshot only exist in the log.
+            for (int i = 0; i < 100; i += 2) {
+                written.updateInstaUser("user_" + i, user -> user.setSubs(7));
+                written.recordStats("user_" + i, 2000, i, 7, 0);
+            }
+            for (int i = 0; i < 100; i += 10) {
+                written.unregisterInstaUser(new InstaUser("user_" + i));
+            }
+            written.unregisterFollowedInstaUser(new InstaUser("user_3"));
+            written.updateInstaUser("late", user -> user.setSubbed(9));
+            written.recordStats("unknown", 2000, 4, 5, 6);
+
+            for (String name : new String[]{"users.snapshot", "users.log"}) {
+                Files.copy(new File(directory, name).toPath(), new File(crashed, name).toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        UserManager restored = new UserManager(16, new CompactUserStorage());
+        try (UserStore store = new UserStore(crashed, COMPACTION_SIZE)) {
+            store.load(restored);
+            assertSameState(written, restored);
+            assertNull(restored.getKnownInstaUser("user_10"));
+            assertFalse(restored.isFollowedInstaUser("user_3"));
+            assertEquals(9, restored.getKnownInstaUser("late").getSubbed());
+            assertEquals(2, restored.getStatsHistory("user_2").getCount());
+            assertEquals(1, restored.getStatsHistory("user_1").getCount());
+            assertEquals(new StatsHistory.Sample(2000, 4, 5, 6), restored.getStatsHistory("unknown").getLast());
+        }
+    }
+
+    /**
+     * Changes users from several threads while the store compacts repeatedly. Closing and loading again must restore
+     * every change, so no change is lost between a snapshot and the new log.
+     *
+     * @throws Exception if the files cannot be written or read, or a thread fails.
+     */
+    @Test
+    void compactionDuringWritesLosesNothing() throws Exception {
+        UserManager written = new UserManager(64, new CompactUserStorage());
+        UserStore store = new UserStore(directory, COMPACTION_SIZE);
+        store.load(written);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                int id = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 5000; i++) {
+                        String name = "user_" + id + "_" + (i % 500);
+                        written.updateInstaUser(name, user -> user.setSubs(user.getSubs() + 1));
+                        written.recordStats(name, 1000 + i, i, i, i);
+                        if (i % 7 == 0) {
+                            written.registerFollowedInstaUser(new InstaUser(name));
+                        }
+                        if (i % 500 == 0) {
+                            store.compact();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            store.close();
+        }
+
+        UserManager restored = new UserManager(64, new CompactUserStorage());
+        try (UserStore reopened = new UserStore(directory, COMPACTION_SIZE)) {
+            reopened.load(restored);
+            assertSameState(written, restored);
+        }
+    }
+
+    /**
+     * A broken snapshot must not stop the startup. It is moved aside, and the log is still replayed.
+     *
+     * @throws IOException if the files cannot be written or read.
+     */
+    @Test
+    void corruptSnapshotIsMovedAsideAndLogIsReplayed() throws IOException {
+        UserManager written = new UserManager(16, new CompactUserStorage());
+        File crashed = new File(directory, "crashed");
+        assertTrue(crashed.mkdir());
+        try (UserStore store = new UserStore(directory, COMPACTION_SIZE)) {
+            store.load(written);
+            for (int i = 0; i < 50; i++) {
+                written.updateInstaUser("snapshot_" + i, user -> user.setPosts(1));
+            }
+            store.compact();
+            written.updateInstaUser("logged", user -> user.setPosts(2));
+            for (String name : new String[]{"users.snapshot", "users.log"}) {
+                Files.copy(new File(directory, name).toPath(), new File(crashed, name).toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        File snapshot = new File(crashed, "users.snapshot");
+        try (RandomAccessFile file = new RandomAccessFile(snapshot, "rw")) {
+            // Breaks a record in the middle of the snapshot, so its checksum no longer matches.
+            long middle = file.length() / 2;
+            file.seek(middle);
+            int value = file.read();
+            file.seek(middle);
+            file.write(value ^ 0xFF);
+        }
+
+        UserManager restored = new UserManager(16, new CompactUserStorage());
+        try (UserStore store = new UserStore(crashed, COMPACTION_SIZE)) {
+            store.load(restored);
+            assertTrue(new File(crashed, "users.snapshot.corrupt").exists());
+            assertNotNull(restored.getKnownInstaUser("logged"));
+            assertEquals(2, restored.getKnownInstaUser("logged").getPosts());
+            assertNotNull(restored.getKnownInstaUser("snapshot_0"));
+        }
+    }
+
+    /**
+     * Compares the known users, their follow status and their stats histories of two managers.
+     *
+     * @param expected the manager that wrote the store.
+     * @param actual   the manager restored from the store.
+     */
+    private static void assertSameState(UserManager expected, UserManager actual) {
+        assertEquals(expected.getKnownInstaUserCount(), actual.getKnownInstaUserCount());
+        assertEquals(expected.getFollowedInstaUserCount(), actual.getFollowedInstaUserCount());
+        for (InstaUser user : expected.getKnownInstaUsers()) {
+            InstaUser restored = actual.getKnownInstaUser(user.getUsername());
+            assertNotNull(restored, user.getUsername());
+            assertEquals(user.getVersion(), restored.getVersion(), user.getUsername());
+            assertEquals(user.getPosts(), restored.getPosts(), user.getUsername());
+            assertEquals(user.getSubs(), restored.getSubs(), user.getUsername());
+            assertEquals(user.getSubbed(), restored.getSubbed(), user.getUsername());
+            assertEquals(expected.isFollowedInstaUser(user.getUsername()), actual.isFollowedInstaUser(user.getUsername()),
+                    user.getUsername());
+        }
+        expected.forEachStatsHistory((username, history) ->
+                assertEquals(history.getSamples(), actual.getStatsHistory(username).getSamples(), username));
+    }
+}